@@ -0,0 +1,73 @@
+package com.shaffaf.shaffafservice.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link CRLFLogConverter#transform}, which is applied to every console log line.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CRLFLogConverterBenchmark {
+
+    private static final String CLEAN_MESSAGE = "Request to get Units for Block 42 of Project 7 : page 0, size 20";
+
+    private static final String CRLF_MESSAGE = "Request to get Units for Block 42\r\nof Project 7 :\tpage 0, size 20";
+
+    private CRLFLogConverter converter;
+
+    private LoggingEvent applicationEvent;
+
+    private LoggingEvent safeEvent;
+
+    @Setup
+    public void setup() {
+        LoggerContext context = new LoggerContext();
+        converter = new CRLFLogConverter();
+        converter.setContext(context);
+        converter.setOptionList(List.of("red"));
+        converter.start();
+        applicationEvent = loggingEvent(context, "com.shaffaf.shaffafservice.web.rest.UnitResource");
+        safeEvent = loggingEvent(context, "org.hibernate.engine.jdbc.spi.SqlExceptionHelper");
+    }
+
+    private static LoggingEvent loggingEvent(LoggerContext context, String loggerName) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerContext(context);
+        event.setLoggerName(loggerName);
+        event.setLevel(Level.INFO);
+        return event;
+    }
+
+    @Benchmark
+    public String transformCleanMessage() {
+        return converter.transform(applicationEvent, CLEAN_MESSAGE);
+    }
+
+    @Benchmark
+    public String transformCrlfMessage() {
+        return converter.transform(applicationEvent, CRLF_MESSAGE);
+    }
+
+    @Benchmark
+    public String transformSafeLogger() {
+        return converter.transform(safeEvent, CRLF_MESSAGE);
+    }
+}
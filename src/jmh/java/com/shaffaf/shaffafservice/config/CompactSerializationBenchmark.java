@@ -0,0 +1,66 @@
+package com.shaffaf.shaffafservice.config;
+
+import static com.shaffaf.shaffafservice.config.HazelcastSerializationTestUtils.sampleEntity;
+import static com.shaffaf.shaffafservice.config.HazelcastSerializationTestUtils.serializationService;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.shaffaf.shaffafservice.config.HazelcastSerializationTestUtils.SampleEntity;
+import com.shaffaf.shaffafservice.config.HazelcastSerializationTestUtils.SampleEntityCompactSerializer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the Hazelcast serialization of an audited entity, with Java serialization or with an
+ * {@link AuditingEntityCompactSerializer}. The serialized sizes are compared by the
+ * {@code AuditingEntityCompactSerializerTest}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactSerializationBenchmark {
+
+    @Param({ "java", "compact" })
+    private String serialization;
+
+    private SerializationService serializationService;
+
+    private SampleEntity entity;
+
+    private Data data;
+
+    @Setup
+    public void setup() {
+        SerializationConfig config = new SerializationConfig();
+        if ("compact".equals(serialization)) {
+            config.getCompactSerializationConfig().addSerializer(new SampleEntityCompactSerializer());
+        }
+        serializationService = serializationService(config);
+        entity = sampleEntity();
+        data = serializationService.toData(entity);
+    }
+
+    @Benchmark
+    public Data serialize() {
+        return serializationService.toData(entity);
+    }
+
+    @Benchmark
+    public SampleEntity deserialize() {
+        return serializationService.toObject(data);
+    }
+}
@@ -0,0 +1,92 @@
+package com.shaffaf.shaffafservice.config;
+
+import static com.shaffaf.shaffafservice.security.SecurityUtils.AUTHORITIES_CLAIM;
+import static com.shaffaf.shaffafservice.security.SecurityUtils.JWT_ALGORITHM;
+
+import com.shaffaf.shaffafservice.management.SecurityMetersService;
+import com.shaffaf.shaffafservice.security.AuthoritiesConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Benchmark of the {@link JwtDecoder} built by {@link SecurityJwtConfiguration}, which runs on every authenticated request.
+ * <p>
+ * The {@code jwtCache} parameter compares a cold decode (full MAC check and claims parsing) with a decode served by the
+ * verified JWT cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    private static final String BASE64_SECRET =
+        "NGVjOWE3ZDI2MDIyMWZiMzQ1NGUxNjM1OTcxMjIzOTBjYThkYmY0NTZmYjlmM2QwMTIyZGRlZmYxYjljYzkzZTdkNjE2ODczYzQyMzVkNzk5YTQ3ZDA2MjExMzZhYzljMDkzZTU4ZDFiNzlkOTU1NTc0YTk2MGVjYmI4NjAwZWE=";
+
+    @Param({ "disabled", "enabled" })
+    private String jwtCache;
+
+    private JwtDecoder jwtDecoder;
+
+    private String validToken;
+
+    private String malformedToken;
+
+    @Setup
+    public void setup() {
+        SecurityJwtConfiguration configuration = new SecurityJwtConfiguration();
+        ReflectionTestUtils.setField(configuration, "jwtKey", BASE64_SECRET);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSecurity().getJwtCache().setEnabled("enabled".equals(jwtCache));
+        jwtDecoder = configuration.jwtDecoder(new SecurityMetersService(new SimpleMeterRegistry()), applicationProperties);
+
+        JwtEncoder jwtEncoder = configuration.jwtEncoder();
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+            .issuedAt(now)
+            .expiresAt(now.plus(1, ChronoUnit.DAYS))
+            .subject("user")
+            .claim(AUTHORITIES_CLAIM, List.of(AuthoritiesConstants.USER))
+            .build();
+        validToken = jwtEncoder.encode(JwtEncoderParameters.from(JwsHeader.with(JWT_ALGORITHM).build(), claims)).getTokenValue();
+        malformedToken = validToken.substring(1);
+    }
+
+    @Benchmark
+    public Jwt decodeValidToken() {
+        return jwtDecoder.decode(validToken);
+    }
+
+    @Benchmark
+    public Object decodeMalformedToken() {
+        try {
+            return jwtDecoder.decode(malformedToken);
+        } catch (JwtException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.shaffaf.shaffafservice.domain;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the instantiation of the audited entities, with or without the audit dates initialized to the current
+ * instant, as they were: an entity is instantiated with its no-argument constructor, then its fields are set from the
+ * rows of the result set. The allocation rates are reported by the gc profiler of the "jmh" profile.
+ * <p>
+ * Only the instantiation is measured, not the rest of the loading of an entity by Hibernate, such as its persistence
+ * context entry, its loaded state snapshot or its dirty checking.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditDateInitializersBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private List<Object[]> rows;
+
+    @Setup
+    public void setup() {
+        rows = new ArrayList<>(pageSize);
+        Instant createdDate = Instant.parse("2025-01-01T00:00:00Z");
+        for (long i = 0; i < pageSize; i++) {
+            rows.add(new Object[] { i, "Unit " + i, "admin", createdDate.plusSeconds(i), "admin", createdDate.plusSeconds(i + 60) });
+        }
+    }
+
+    @Benchmark
+    public List<Unit> withAuditDateInitializers() {
+        List<Unit> page = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Unit unit = new InitializedUnit();
+            setFields(unit, row);
+            page.add(unit);
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<Unit> withoutAuditDateInitializers() {
+        List<Unit> page = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Unit unit = new Unit();
+            setFields(unit, row);
+            page.add(unit);
+        }
+        return page;
+    }
+
+    private static void setFields(Unit unit, Object[] row) {
+        unit.setId((Long) row[0]);
+        unit.setName((String) row[1]);
+        unit.setCreatedBy((String) row[2]);
+        unit.setCreatedDate((Instant) row[3]);
+        unit.setLastModifiedBy((String) row[4]);
+        unit.setLastModifiedDate((Instant) row[5]);
+    }
+
+    public static class Unit extends AbstractAuditingEntity<Long> {
+
+        private Long id;
+
+        private String name;
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * The audited entities as they were, with the audit dates initialized on each instantiation.
+     */
+    public static class InitializedUnit extends Unit {
+
+        {
+            setCreatedDate(Instant.now());
+            setLastModifiedDate(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.shaffaf.shaffafservice.security;
+
+import static com.shaffaf.shaffafservice.security.SecurityUtils.AUTHORITIES_CLAIM;
+
+import com.shaffaf.shaffafservice.security.jwt.AuthoritySetJwtAuthenticationConverter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+/**
+ * Benchmark of the {@link SecurityUtils} lookups used by method security and auditing, against a JWT authentication
+ * either converted with its {@link AuthoritySet}, or holding its authorities only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityUtilsBenchmark {
+
+    @Param({ "authority-set", "authorities" })
+    public String authentication;
+
+    private final String[] matchingAuthorities = { AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER };
+
+    private final String[] nonMatchingAuthorities = { AuthoritiesConstants.ADMIN };
+
+    @Setup
+    public void setup() {
+        Jwt jwt = Jwt.withTokenValue("token")
+            .header("alg", SecurityUtils.JWT_ALGORITHM.getName())
+            .subject("user")
+            .claim(AUTHORITIES_CLAIM, List.of(AuthoritiesConstants.USER))
+            .build();
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        if ("authority-set".equals(authentication)) {
+            JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+            grantedAuthoritiesConverter.setAuthoritiesClaimName(AUTHORITIES_CLAIM);
+            grantedAuthoritiesConverter.setAuthorityPrefix("");
+            securityContext.setAuthentication(new AuthoritySetJwtAuthenticationConverter(grantedAuthoritiesConverter).convert(jwt));
+        } else {
+            securityContext.setAuthentication(
+                new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority(AuthoritiesConstants.USER)))
+            );
+        }
+        SecurityContextHolder.setContext(securityContext);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Optional<String> getCurrentUserLogin() {
+        return SecurityUtils.getCurrentUserLogin();
+    }
+
+    @Benchmark
+    public boolean isAuthenticated() {
+        return SecurityUtils.isAuthenticated();
+    }
+
+    @Benchmark
+    public boolean hasCurrentUserThisAuthority() {
+        return SecurityUtils.hasCurrentUserThisAuthority(AuthoritiesConstants.USER);
+    }
+
+    @Benchmark
+    public boolean hasCurrentUserAnyOfAuthoritiesMatch() {
+        return SecurityUtils.hasCurrentUserAnyOfAuthorities(matchingAuthorities);
+    }
+
+    @Benchmark
+    public boolean hasCurrentUserAnyOfAuthoritiesNoMatch() {
+        return SecurityUtils.hasCurrentUserAnyOfAuthorities(nonMatchingAuthorities);
+    }
+}
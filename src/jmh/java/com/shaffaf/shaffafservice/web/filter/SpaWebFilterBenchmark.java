@@ -0,0 +1,97 @@
+package com.shaffaf.shaffafservice.web.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Benchmark of the {@link SpaWebFilter} routing decision, for REST calls, static files and client routes, with the
+ * client routes either forwarded to {@code index.html} or served from memory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpaWebFilterBenchmark {
+
+    private static final FilterChain NOOP_FILTER_CHAIN = (request, response) -> {};
+
+    @Param({ "/api/projects/1", "/management/health", "/main.js", "/projects/1/units" })
+    private String path;
+
+    @Param({ "forward", "in-memory" })
+    private String index;
+
+    private SpaWebFilter filter;
+
+    private MockHttpServletRequest request;
+
+    private HttpServletResponse response;
+
+    @Setup
+    public void setup() {
+        filter = "in-memory".equals(index)
+            ? new SpaWebFilter(SpaWebFilter.DEFAULT_EXCLUDED_PREFIXES, new ClassPathResource("static/index.html"))
+            : new SpaWebFilter();
+        request = new MockHttpServletRequest("GET", path);
+        response = new DiscardingResponse(new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public HttpServletResponse doFilter() throws ServletException, IOException {
+        filter.doFilter(request, response, NOOP_FILTER_CHAIN);
+        return response;
+    }
+
+    /**
+     * Response discarding its body, as the {@link MockHttpServletResponse} output stream writes byte per byte.
+     */
+    private static final class DiscardingResponse extends HttpServletResponseWrapper {
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {}
+
+            @Override
+            public void write(int b) {}
+
+            @Override
+            public void write(byte[] b, int off, int len) {}
+        };
+
+        DiscardingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.shaffaf.shaffafservice.web.rest.errors;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Benchmark of {@link ExceptionTranslator#handleAnyException}, which builds the Problem Details body of every error response.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionTranslatorBenchmark {
+
+    @Param({ "runtime", "access-denied", "bad-request-alert" })
+    private String exceptionType;
+
+    @Param({ "dev", "prod" })
+    private String profile;
+
+    private ExceptionTranslator exceptionTranslator;
+
+    private Throwable exception;
+
+    private NativeWebRequest request;
+
+    @Setup
+    public void setup() {
+        MockEnvironment env = new MockEnvironment();
+        env.setActiveProfiles(profile);
+        exceptionTranslator = new ExceptionTranslator(env);
+        ReflectionTestUtils.setField(exceptionTranslator, "applicationName", "shaffafserviceApp");
+        exception = switch (exceptionType) {
+            case "access-denied" -> new AccessDeniedException("test access denied!");
+            case "bad-request-alert" -> new BadRequestAlertException("Bad request", "unit", "idexists");
+            default -> new RuntimeException("Runtime exception in com.shaffaf.shaffafservice.service.UnitService");
+        };
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/units/1"), new MockHttpServletResponse());
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> handleAnyException() {
+        return exceptionTranslator.handleAnyException(exception, request);
+    }
+}
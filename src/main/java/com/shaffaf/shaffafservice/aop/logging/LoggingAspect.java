@@ -1,12 +1,20 @@
 package com.shaffaf.shaffafservice.aop.logging;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
@@ -17,14 +25,42 @@ import tech.jhipster.config.JHipsterConstants;
  * Aspect for logging execution of service and repository Spring components.
  *
  * By default, it only runs with the "dev" profile.
+ * In "metrics" mode, it times every execution and only logs a sample of them.
  */
 @Aspect
 public class LoggingAspect {
 
+    public static final String METHOD_TIMER_NAME = "method.timed";
+    public static final String METHOD_TIMER_DESCRIPTION = "Indicates the execution time of the repository, service and REST methods.";
+    public static final String METHOD_TIMER_CLASS_DIMENSION = "class";
+    public static final String METHOD_TIMER_METHOD_DIMENSION = "method";
+    public static final String METHOD_TIMER_EXCEPTION_DIMENSION = "exception";
+
+    private static final String NO_EXCEPTION = "none";
+
     private final Environment env;
 
+    private final MeterRegistry meterRegistry;
+
+    private final double argumentSampleRate;
+
+    private final ConcurrentMap<Method, MethodMeters> methodMeters = new ConcurrentHashMap<>();
+
     public LoggingAspect(Environment env) {
+        this(env, null, 1);
+    }
+
+    /**
+     * Creates an aspect in "metrics" mode when given a meter registry.
+     *
+     * @param env the environment.
+     * @param meterRegistry the registry of the method timers, or {@code null} not to time the methods.
+     * @param argumentSampleRate the rate, between 0 and 1, of the timed executions logged with their arguments.
+     */
+    public LoggingAspect(Environment env, MeterRegistry meterRegistry, double argumentSampleRate) {
         this.env = env;
+        this.meterRegistry = meterRegistry;
+        this.argumentSampleRate = argumentSampleRate;
     }
 
     /**
@@ -95,6 +131,9 @@ public class LoggingAspect {
      */
     @Around("applicationPackagePointcut() && springBeanPointcut()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (meterRegistry != null) {
+            return timeAround(joinPoint);
+        }
         Logger log = logger(joinPoint);
         if (log.isDebugEnabled()) {
             log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
@@ -110,4 +149,76 @@ public class LoggingAspect {
             throw e;
         }
     }
+
+    /**
+     * Times the method execution, and logs it when sampled.
+     */
+    private Object timeAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters meters = methodMeters(joinPoint);
+        Logger log = meters.logger();
+        boolean sampled = log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < argumentSampleRate;
+        if (sampled) {
+            log.debug("Enter: {}() with argument[s] = {}", meters.methodName(), Arrays.toString(joinPoint.getArgs()));
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            meters.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (sampled) {
+                log.debug("Exit: {}() with result = {}", meters.methodName(), result);
+            }
+            return result;
+        } catch (Throwable e) {
+            meters.exceptionTimer(e.getClass(), meterRegistry).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (e instanceof IllegalArgumentException) {
+                log.error("Illegal argument in {}()", meters.methodName());
+            }
+            throw e;
+        }
+    }
+
+    private MethodMeters methodMeters(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodMeters meters = methodMeters.get(method);
+        if (meters == null) {
+            meters = methodMeters.computeIfAbsent(method, key -> {
+                String className = joinPoint.getSignature().getDeclaringTypeName();
+                String methodName = key.getName();
+                Timer timer = methodTimerBuilder(className, methodName, NO_EXCEPTION).register(meterRegistry);
+                return new MethodMeters(LoggerFactory.getLogger(className), timer, className, methodName, new ConcurrentHashMap<>());
+            });
+        }
+        return meters;
+    }
+
+    private static Timer.Builder methodTimerBuilder(String className, String methodName, String exception) {
+        return Timer.builder(METHOD_TIMER_NAME)
+            .description(METHOD_TIMER_DESCRIPTION)
+            .tag(METHOD_TIMER_CLASS_DIMENSION, className)
+            .tag(METHOD_TIMER_METHOD_DIMENSION, methodName)
+            .tag(METHOD_TIMER_EXCEPTION_DIMENSION, exception);
+    }
+
+    private record MethodMeters(
+        Logger logger,
+        Timer timer,
+        String className,
+        String methodName,
+        ConcurrentMap<Class<?>, Timer> exceptionTimers
+    ) {
+        /**
+         * @param exceptionClass the class of the exception thrown by the method.
+         * @param meterRegistry the registry of the timer.
+         * @return the timer of the executions throwing it, registered on the first one.
+         */
+        Timer exceptionTimer(Class<?> exceptionClass, MeterRegistry meterRegistry) {
+            Timer exceptionTimer = exceptionTimers.get(exceptionClass);
+            if (exceptionTimer == null) {
+                exceptionTimer = exceptionTimers.computeIfAbsent(exceptionClass, key ->
+                    methodTimerBuilder(className, methodName, key.getSimpleName()).register(meterRegistry)
+                );
+            }
+            return exceptionTimer;
+        }
+    }
 }
@@ -1,5 +1,11 @@
 package com.shaffaf.shaffafservice.config;
 
+import com.shaffaf.shaffafservice.repository.CountMode;
+import com.shaffaf.shaffafservice.web.filter.SpaWebFilter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -13,12 +19,66 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Security security = new Security();
+
+    private final Spa spa = new Spa();
+
+    private final LoggingAspect loggingAspect = new LoggingAspect();
+
+    private final Logging logging = new Logging();
+
+    private final Cache cache = new Cache();
+
+    private final Pagination pagination = new Pagination();
+
+    private final Dues dues = new Dues();
+
+    private final Balance balance = new Balance();
+
+    private final Sync sync = new Sync();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Security getSecurity() {
+        return security;
+    }
+
+    public Spa getSpa() {
+        return spa;
+    }
+
+    public LoggingAspect getLoggingAspect() {
+        return loggingAspect;
+    }
+
+    public Logging getLogging() {
+        return logging;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    public Dues getDues() {
+        return dues;
+    }
+
+    public Balance getBalance() {
+        return balance;
+    }
+
+    public Sync getSync() {
+        return sync;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +93,436 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Security {
+
+        private final JwtCache jwtCache = new JwtCache();
+
+        public JwtCache getJwtCache() {
+            return jwtCache;
+        }
+
+        /**
+         * Cache of the already verified JWTs, so that a token sent many times is only decoded once.
+         * Entries never outlive the expiration of their token.
+         */
+        public static class JwtCache {
+
+            private boolean enabled = true;
+
+            private long maxSize = 10_000;
+
+            private long timeToLiveSeconds = 3600;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public long getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(long maxSize) {
+                this.maxSize = maxSize;
+            }
+
+            public long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+        }
+    }
+
+    /**
+     * Routing of the client application paths to {@code index.html}.
+     */
+    public static class Spa {
+
+        private List<String> excludedPrefixes = new ArrayList<>(SpaWebFilter.DEFAULT_EXCLUDED_PREFIXES);
+
+        private boolean cacheIndex = true;
+
+        public List<String> getExcludedPrefixes() {
+            return excludedPrefixes;
+        }
+
+        public void setExcludedPrefixes(List<String> excludedPrefixes) {
+            this.excludedPrefixes = excludedPrefixes;
+        }
+
+        public boolean isCacheIndex() {
+            return cacheIndex;
+        }
+
+        public void setCacheIndex(boolean cacheIndex) {
+            this.cacheIndex = cacheIndex;
+        }
+    }
+
+    /**
+     * Mode of the logging aspect around the repositories, services and REST endpoints.
+     * <p>
+     * In {@code log} mode, the default, the aspect only runs with the "dev" profile and logs every call.
+     * In {@code metrics} mode, it runs with any profile, times every call, and only logs a sample of the calls.
+     */
+    public static class LoggingAspect {
+
+        private String mode = "log";
+
+        private double argumentSampleRate = 0.01;
+
+        public String getMode() {
+            return mode;
+        }
+
+        public void setMode(String mode) {
+            this.mode = mode;
+        }
+
+        public double getArgumentSampleRate() {
+            return argumentSampleRate;
+        }
+
+        public void setArgumentSampleRate(double argumentSampleRate) {
+            this.argumentSampleRate = argumentSampleRate;
+        }
+    }
+
+    public static class Logging {
+
+        private final Async async = new Async();
+
+        public Async getAsync() {
+            return async;
+        }
+
+        /**
+         * Asynchronous appending of the log events, through the {@link RingBufferAsyncAppender} wrapping the appenders
+         * of the root logger which are not already asynchronous.
+         */
+        public static class Async {
+
+            private boolean enabled = false;
+
+            private int queueSize = RingBufferAsyncAppender.DEFAULT_QUEUE_SIZE;
+
+            private int discardingThreshold = -1;
+
+            private String droppableLevel = "INFO";
+
+            private int maxFlushTime = RingBufferAsyncAppender.DEFAULT_MAX_FLUSH_TIME;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getQueueSize() {
+                return queueSize;
+            }
+
+            public void setQueueSize(int queueSize) {
+                this.queueSize = queueSize;
+            }
+
+            public int getDiscardingThreshold() {
+                return discardingThreshold;
+            }
+
+            public void setDiscardingThreshold(int discardingThreshold) {
+                this.discardingThreshold = discardingThreshold;
+            }
+
+            public String getDroppableLevel() {
+                return droppableLevel;
+            }
+
+            public void setDroppableLevel(String droppableLevel) {
+                this.droppableLevel = droppableLevel;
+            }
+
+            public int getMaxFlushTime() {
+                return maxFlushTime;
+            }
+
+            public void setMaxFlushTime(int maxFlushTime) {
+                this.maxFlushTime = maxFlushTime;
+            }
+        }
+    }
+
+    public static class Cache {
+
+        private Map<String, NearCache> nearCache = new LinkedHashMap<>();
+
+        private final Warmup warmup = new Warmup();
+
+        private final Discovery discovery = new Discovery();
+
+        /**
+         * Near caches, by Hazelcast map name or pattern: the Spring cache names, and the Hibernate second-level cache
+         * regions such as {@code com.shaffaf.shaffafservice.domain.*}.
+         */
+        public Map<String, NearCache> getNearCache() {
+            return nearCache;
+        }
+
+        public void setNearCache(Map<String, NearCache> nearCache) {
+            this.nearCache = nearCache;
+        }
+
+        public Warmup getWarmup() {
+            return warmup;
+        }
+
+        public Discovery getDiscovery() {
+            return discovery;
+        }
+
+        /**
+         * Discovery of the Hazelcast members through the service registry.
+         */
+        public static class Discovery {
+
+            private int mergeIntervalSeconds = 30;
+
+            /**
+             * Interval between the checks for other clusters of the same service in the registry, so that nodes which
+             * started together, or were split, merge into a single cluster.
+             */
+            public int getMergeIntervalSeconds() {
+                return mergeIntervalSeconds;
+            }
+
+            public void setMergeIntervalSeconds(int mergeIntervalSeconds) {
+                this.mergeIntervalSeconds = mergeIntervalSeconds;
+            }
+        }
+
+        /**
+         * Loading of the reference data regions at startup, before the node is ready.
+         */
+        public static class Warmup {
+
+            private boolean enabled = true;
+
+            private long timeoutSeconds = 60;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public long getTimeoutSeconds() {
+                return timeoutSeconds;
+            }
+
+            public void setTimeoutSeconds(long timeoutSeconds) {
+                this.timeoutSeconds = timeoutSeconds;
+            }
+        }
+
+        /**
+         * Local copy, on each node, of the entries read from a Hazelcast map, invalidated when the entries change.
+         */
+        public static class NearCache {
+
+            private int maxSize = 10_000;
+
+            private String inMemoryFormat = "BINARY";
+
+            private boolean invalidateOnChange = true;
+
+            private int timeToLiveSeconds = 0;
+
+            private int maxIdleSeconds = 0;
+
+            private boolean cacheLocalEntries = false;
+
+            public int getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+            }
+
+            public String getInMemoryFormat() {
+                return inMemoryFormat;
+            }
+
+            public void setInMemoryFormat(String inMemoryFormat) {
+                this.inMemoryFormat = inMemoryFormat;
+            }
+
+            public boolean isInvalidateOnChange() {
+                return invalidateOnChange;
+            }
+
+            public void setInvalidateOnChange(boolean invalidateOnChange) {
+                this.invalidateOnChange = invalidateOnChange;
+            }
+
+            public int getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public int getMaxIdleSeconds() {
+                return maxIdleSeconds;
+            }
+
+            public void setMaxIdleSeconds(int maxIdleSeconds) {
+                this.maxIdleSeconds = maxIdleSeconds;
+            }
+
+            public boolean isCacheLocalEntries() {
+                return cacheLocalEntries;
+            }
+
+            public void setCacheLocalEntries(boolean cacheLocalEntries) {
+                this.cacheLocalEntries = cacheLocalEntries;
+            }
+        }
+    }
+
+    public static class Pagination {
+
+        private CountMode defaultCountMode = CountMode.EXACT;
+
+        private Map<String, CountMode> countModes = new LinkedHashMap<>();
+
+        private long cachedCountTtlSeconds = 10;
+
+        /**
+         * Count mode of the {@code X-Total-Count} header, when neither the client nor the entity chooses one.
+         */
+        public CountMode getDefaultCountMode() {
+            return defaultCountMode;
+        }
+
+        public void setDefaultCountMode(CountMode defaultCountMode) {
+            this.defaultCountMode = defaultCountMode;
+        }
+
+        /**
+         * Count modes by entity name, such as {@code CACHED} for the large tables.
+         */
+        public Map<String, CountMode> getCountModes() {
+            return countModes;
+        }
+
+        public void setCountModes(Map<String, CountMode> countModes) {
+            this.countModes = countModes;
+        }
+
+        public long getCachedCountTtlSeconds() {
+            return cachedCountTtlSeconds;
+        }
+
+        public void setCachedCountTtlSeconds(long cachedCountTtlSeconds) {
+            this.cachedCountTtlSeconds = cachedCountTtlSeconds;
+        }
+    }
+
+    public static class Dues {
+
+        private int parallelism = 4;
+
+        private String cron = "-";
+
+        /**
+         * Number of blocks whose dues are generated at the same time.
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * Schedule of the monthly dues generation, {@code -} to disable it.
+         */
+        public String getCron() {
+            return cron;
+        }
+
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+    }
+
+    public static class Balance {
+
+        private long cacheTtlSeconds = 300;
+
+        private String reconciliationCron = "-";
+
+        /**
+         * Time to live of the cached balances, which are also evicted when a due or collection of the unit is written.
+         */
+        public long getCacheTtlSeconds() {
+            return cacheTtlSeconds;
+        }
+
+        public void setCacheTtlSeconds(long cacheTtlSeconds) {
+            this.cacheTtlSeconds = cacheTtlSeconds;
+        }
+
+        /**
+         * Schedule of the reconciliation of the balances with their source rows, {@code -} to disable it.
+         */
+        public String getReconciliationCron() {
+            return reconciliationCron;
+        }
+
+        public void setReconciliationCron(String reconciliationCron) {
+            this.reconciliationCron = reconciliationCron;
+        }
+    }
+
+    public static class Sync {
+
+        private long safetyLagSeconds = 60;
+
+        private int pageSize = 500;
+
+        /**
+         * Age of the most recent changes returned to the offline clients, longer than the longest write transaction.
+         */
+        public long getSafetyLagSeconds() {
+            return safetyLagSeconds;
+        }
+
+        public void setSafetyLagSeconds(long safetyLagSeconds) {
+            this.safetyLagSeconds = safetyLagSeconds;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -1,14 +1,22 @@
 package com.shaffaf.shaffafservice.config;
 
+import com.shaffaf.shaffafservice.management.TaskExecutorMetersDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -23,22 +31,100 @@ public class AsyncConfiguration implements AsyncConfigurer {
 
     private static final Logger LOG = LoggerFactory.getLogger(AsyncConfiguration.class);
 
+    private static final String TASK_EXECUTOR_NAME = "taskExecutor";
+
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final Environment env;
+
+    private final MeterRegistry meterRegistry;
+
+    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties, Environment env, MeterRegistry meterRegistry) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.env = env;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
-    @Bean(name = "taskExecutor")
+    @Bean(name = TASK_EXECUTOR_NAME)
     public Executor getAsyncExecutor() {
+        if (!Threading.VIRTUAL.isActive(env)) {
+            return new ExceptionHandlingAsyncTaskExecutor(platformThreadsExecutor());
+        }
+        SimpleAsyncTaskExecutor executor = virtualThreadsExecutor();
+        // The ExceptionHandlingAsyncTaskExecutor only destroys the executors which are disposable beans
+        return new ExceptionHandlingAsyncTaskExecutor(executor) {
+            @Override
+            public void destroy() {
+                executor.close();
+            }
+        };
+    }
+
+    /**
+     * Platform threads executor, reporting the tasks it rejects or drops on shutdown to its meters.
+     */
+    AsyncTaskExecutor platformThreadsExecutor() {
         LOG.debug("Creating Async Task Executor");
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        TaskExecutorMetersDecorator meters = new TaskExecutorMetersDecorator(
+            meterRegistry,
+            TASK_EXECUTOR_NAME,
+            "platform",
+            taskExecutionProperties.getPool().getMaxSize()
+        );
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+            @Override
+            protected void cancelRemainingTask(Runnable task) {
+                meters.discard(task);
+                super.cancelRemainingTask(task);
+            }
+        };
         executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
         executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
         executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
         executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix());
-        return new ExceptionHandlingAsyncTaskExecutor(executor);
+        executor.setTaskDecorator(meters);
+        executor.setRejectedExecutionHandler(meters.discarding(new ThreadPoolExecutor.AbortPolicy()));
+        return executor;
+    }
+
+    /**
+     * Virtual threads executor, used when {@code spring.threads.virtual.enabled} is set and running on Java 21 or later.
+     * <p>
+     * The async tasks mostly run JDBC work: their concurrency is limited, by default to the maximum size of the platform
+     * threads pool, so that they do not exhaust the connection pool. The tasks beyond the limit wait on their own virtual
+     * thread, up to the queue capacity of the platform threads pool, and the callers never block.
+     * <p>
+     * The running tasks are tracked, so that closing the executor interrupts them and drops the waiting ones.
+     */
+    SimpleAsyncTaskExecutor virtualThreadsExecutor() {
+        LOG.debug("Creating Async Task Executor on virtual threads");
+        Integer configuredConcurrencyLimit = taskExecutionProperties.getSimple().getConcurrencyLimit();
+        int concurrencyLimit = configuredConcurrencyLimit != null
+            ? configuredConcurrencyLimit
+            : taskExecutionProperties.getPool().getMaxSize();
+        TaskExecutorMetersDecorator meters = new TaskExecutorMetersDecorator(meterRegistry, TASK_EXECUTOR_NAME, "virtual", concurrencyLimit);
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(taskExecutionProperties.getThreadNamePrefix());
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(
+            new ConcurrencyLimitingTaskDecorator(
+                meters,
+                concurrencyLimit,
+                taskExecutionProperties.getPool().getQueueCapacity(),
+                executor::isActive
+            )
+        );
+        executor.setTaskTerminationTimeout(taskTerminationTimeout().toMillis());
+        return executor;
+    }
+
+    /**
+     * @return the time to wait for the running tasks on shutdown, at least one millisecond so that they are tracked.
+     */
+    private Duration taskTerminationTimeout() {
+        TaskExecutionProperties.Shutdown shutdown = taskExecutionProperties.getShutdown();
+        Duration awaitTerminationPeriod = shutdown.isAwaitTermination() ? shutdown.getAwaitTerminationPeriod() : null;
+        return awaitTerminationPeriod != null && awaitTerminationPeriod.toMillis() > 0 ? awaitTerminationPeriod : Duration.ofMillis(1);
     }
 
     @Override
@@ -0,0 +1,64 @@
+package com.shaffaf.shaffafservice.config;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.shaffaf.shaffafservice.domain.AbstractAuditingEntity;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Base Hazelcast {@link CompactSerializer} of the entities extending {@link AbstractAuditingEntity}: it writes the audit
+ * fields, and lets the subclass write the fields of the entity.
+ * <p>
+ * The serializers declared as beans are registered by the {@link CacheConfiguration}. The field names
+ * {@code createdBy}, {@code createdDate}, {@code lastModifiedBy} and {@code lastModifiedDate} are used by this class.
+ *
+ * @param <E> the type of the entity.
+ */
+public abstract class AuditingEntityCompactSerializer<E extends AbstractAuditingEntity<?>> implements CompactSerializer<E> {
+
+    @Override
+    public E read(CompactReader reader) {
+        E entity = readEntity(reader);
+        entity.setCreatedBy(reader.readString("createdBy"));
+        entity.setCreatedDate(toInstant(reader.readTimestampWithTimezone("createdDate")));
+        entity.setLastModifiedBy(reader.readString("lastModifiedBy"));
+        entity.setLastModifiedDate(toInstant(reader.readTimestampWithTimezone("lastModifiedDate")));
+        return entity;
+    }
+
+    @Override
+    public void write(CompactWriter writer, E entity) {
+        writeEntity(writer, entity);
+        writer.writeString("createdBy", entity.getCreatedBy());
+        writer.writeTimestampWithTimezone("createdDate", toTimestamp(entity.getCreatedDate()));
+        writer.writeString("lastModifiedBy", entity.getLastModifiedBy());
+        writer.writeTimestampWithTimezone("lastModifiedDate", toTimestamp(entity.getLastModifiedDate()));
+    }
+
+    /**
+     * Creates the entity from its fields, except the audit fields.
+     *
+     * @param reader the reader of the fields.
+     * @return the entity.
+     */
+    protected abstract E readEntity(CompactReader reader);
+
+    /**
+     * Writes the fields of the entity, except the audit fields.
+     *
+     * @param writer the writer of the fields.
+     * @param entity the entity.
+     */
+    protected abstract void writeEntity(CompactWriter writer, E entity);
+
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static Instant toInstant(OffsetDateTime timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
@@ -6,6 +6,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 import org.springframework.boot.ansi.AnsiColor;
@@ -43,20 +45,54 @@ public class CRLFLogConverter extends CompositeConverter<ILoggingEvent> {
         ELEMENTS = Collections.unmodifiableMap(ansiElements);
     }
 
+    // Safe logger decisions, by logger name: the logger names are bounded by the loggers of the logger context
+    private final ConcurrentMap<String, Boolean> safeLoggers = new ConcurrentHashMap<>();
+
     @Override
     protected String transform(ILoggingEvent event, String in) {
-        AnsiElement element = ELEMENTS.get(getFirstOption());
         List<Marker> markers = event.getMarkerList();
         if ((markers != null && !markers.isEmpty() && markers.get(0).contains(CRLF_SAFE_MARKER)) || isLoggerSafe(event)) {
             return in;
         }
+        int index = indexOfCrlf(in, 0);
+        if (index < 0) {
+            return in;
+        }
+        AnsiElement element = ELEMENTS.get(getFirstOption());
         String replacement = element == null ? "_" : toAnsiString("_", element);
-        return in.replaceAll("[\n\r\t]", replacement);
+        StringBuilder out = new StringBuilder(in.length() + 16);
+        int start = 0;
+        while (index >= 0) {
+            out.append(in, start, index).append(replacement);
+            start = index + 1;
+            index = indexOfCrlf(in, start);
+        }
+        return out.append(in, start, in.length()).toString();
+    }
+
+    private static int indexOfCrlf(String in, int from) {
+        for (int i = from; i < in.length(); i++) {
+            char c = in.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\t') {
+                return i;
+            }
+        }
+        return -1;
     }
 
     protected boolean isLoggerSafe(ILoggingEvent event) {
+        String loggerName = event.getLoggerName();
+        Boolean safe = safeLoggers.get(loggerName);
+        if (safe == null) {
+            safe = isLoggerNameSafe(loggerName);
+            safeLoggers.putIfAbsent(loggerName, safe);
+        }
+        return safe;
+    }
+
+    private static boolean isLoggerNameSafe(String loggerName) {
         for (String safeLogger : SAFE_LOGS) {
-            if (event.getLoggerName().startsWith(safeLogger)) {
+            if (loggerName.startsWith(safeLogger)) {
                 return true;
             }
         }
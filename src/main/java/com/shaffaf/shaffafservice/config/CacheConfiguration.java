@@ -3,10 +3,21 @@ package com.shaffaf.shaffafservice.config;
 import com.hazelcast.config.*;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.shaffaf.shaffafservice.management.CacheWarmer;
+import com.shaffaf.shaffafservice.management.CacheWarmup;
+import com.shaffaf.shaffafservice.management.HazelcastCacheMeters;
 import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
@@ -38,12 +49,20 @@ public class CacheConfiguration {
 
     private final DiscoveryClient discoveryClient;
 
+    private final ApplicationProperties applicationProperties;
+
     private Registration registration;
 
-    public CacheConfiguration(Environment env, ServerProperties serverProperties, DiscoveryClient discoveryClient) {
+    public CacheConfiguration(
+        Environment env,
+        ServerProperties serverProperties,
+        DiscoveryClient discoveryClient,
+        ApplicationProperties applicationProperties
+    ) {
         this.env = env;
         this.serverProperties = serverProperties;
         this.discoveryClient = discoveryClient;
+        this.applicationProperties = applicationProperties;
     }
 
     @Autowired(required = false)
@@ -64,7 +83,30 @@ public class CacheConfiguration {
     }
 
     @Bean
-    public HazelcastInstance hazelcastInstance(JHipsterProperties jHipsterProperties) {
+    public HazelcastCacheMeters hazelcastCacheMeters(HazelcastInstance hazelcastInstance) {
+        return new HazelcastCacheMeters(hazelcastInstance, "cacheManager");
+    }
+
+    @Bean
+    public CacheWarmup cacheWarmup(
+        ObjectProvider<CacheWarmer> cacheWarmers,
+        @Qualifier("taskExecutor") Executor executor,
+        LiquibaseMigrationTracker liquibaseMigrationTracker
+    ) {
+        ApplicationProperties.Cache.Warmup warmup = applicationProperties.getCache().getWarmup();
+        return new CacheWarmup(
+            cacheWarmers.orderedStream().toList(),
+            executor,
+            warmup.isEnabled() ? Duration.ofSeconds(warmup.getTimeoutSeconds()) : null,
+            liquibaseMigrationTracker::whenMigrated
+        );
+    }
+
+    @Bean
+    public HazelcastInstance hazelcastInstance(
+        JHipsterProperties jHipsterProperties,
+        ObjectProvider<CompactSerializer<?>> compactSerializers
+    ) {
         LOG.debug("Configuring Hazelcast");
         HazelcastInstance hazelCastInstance = Hazelcast.getHazelcastInstanceByName("shaffafservice");
         if (hazelCastInstance != null) {
@@ -88,28 +130,41 @@ public class CacheConfiguration {
                 );
 
                 config.getNetworkConfig().setPort(serverProperties.getPort() + 5701);
-                config.getNetworkConfig().getJoin().getTcpIpConfig().setEnabled(true);
-                for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
-                    String clusterMember = "127.0.0.1:" + (instance.getPort() + 5701);
-                    LOG.debug("Adding Hazelcast (dev) cluster member {}", clusterMember);
-                    config.getNetworkConfig().getJoin().getTcpIpConfig().addMember(clusterMember);
-                }
+                addServiceRegistryDiscovery(config, serviceId, instance -> "127.0.0.1:" + (instance.getPort() + 5701));
             } else { // Production configuration, one host per instance all using port 5701
                 config.getNetworkConfig().setPort(5701);
-                config.getNetworkConfig().getJoin().getTcpIpConfig().setEnabled(true);
-                for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
-                    String clusterMember = instance.getHost() + ":5701";
-                    LOG.debug("Adding Hazelcast (prod) cluster member {}", clusterMember);
-                    config.getNetworkConfig().getJoin().getTcpIpConfig().addMember(clusterMember);
-                }
+                addServiceRegistryDiscovery(config, serviceId, instance -> instance.getHost() + ":5701");
             }
         }
         config.setManagementCenterConfig(new ManagementCenterConfig());
         config.addMapConfig(initializeDefaultMapConfig(jHipsterProperties));
         config.addMapConfig(initializeDomainMapConfig(jHipsterProperties));
+        addNearCacheConfigs(config, applicationProperties.getCache().getNearCache());
+        addCompactSerializers(config, compactSerializers);
         return Hazelcast.newHazelcastInstance(config);
     }
 
+    /**
+     * Discovers the members through the service registry each time Hazelcast looks for them, rather than from the
+     * instances registered at startup, so that the nodes started later widen the cluster.
+     */
+    private void addServiceRegistryDiscovery(Config config, String serviceId, Function<ServiceInstance, String> memberAddress) {
+        config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
+        config
+            .getNetworkConfig()
+            .getJoin()
+            .getDiscoveryConfig()
+            .addDiscoveryStrategyConfig(
+                new DiscoveryStrategyConfig(new ServiceRegistryDiscoveryStrategyFactory(discoveryClient, serviceId, memberAddress))
+            );
+        config.setProperty(ClusterProperty.DISCOVERY_SPI_ENABLED.getName(), "true");
+
+        // Nodes which did not see each other when joining, or were split, look for each other at this interval
+        String mergeIntervalSeconds = String.valueOf(applicationProperties.getCache().getDiscovery().getMergeIntervalSeconds());
+        config.setProperty(ClusterProperty.MERGE_FIRST_RUN_DELAY_SECONDS.getName(), mergeIntervalSeconds);
+        config.setProperty(ClusterProperty.MERGE_NEXT_RUN_DELAY_SECONDS.getName(), mergeIntervalSeconds);
+    }
+
     private MapConfig initializeDefaultMapConfig(JHipsterProperties jHipsterProperties) {
         MapConfig mapConfig = new MapConfig("default");
 
@@ -146,6 +201,67 @@ public class CacheConfiguration {
         return mapConfig;
     }
 
+    /**
+     * Adds the near caches to the map configurations, so that the Spring caches and the Hibernate second-level cache
+     * regions read their hot entries locally.
+     * <p>
+     * A map without its own configuration gets one matching its name, copied from the configuration its name matches,
+     * such as a wildcard one or the "default" one, which are left unchanged for the other maps.
+     */
+    static void addNearCacheConfigs(Config config, Map<String, ApplicationProperties.Cache.NearCache> nearCaches) {
+        nearCaches.forEach((mapName, nearCache) -> {
+            LOG.debug("Configuring Hazelcast near cache for {}", mapName);
+            MapConfig mapConfig = config.getMapConfig(mapName);
+            // Only the "default" configuration is copied for the map by Hazelcast, a matching wildcard one is returned as is
+            if (!mapName.equals(mapConfig.getName())) {
+                mapConfig = new MapConfig(mapConfig).setName(mapName);
+                config.addMapConfig(mapConfig);
+            }
+            mapConfig.setNearCacheConfig(initializeNearCacheConfig(mapName, nearCache));
+        });
+    }
+
+    /**
+     * Registers the compact serializers of the cached entities and DTOs, such as the
+     * {@link AuditingEntityCompactSerializer}s. The classes without a registered serializer keep the default Hazelcast
+     * serialization, which is Java serialization for {@link java.io.Serializable} classes.
+     */
+    private static void addCompactSerializers(Config config, ObjectProvider<CompactSerializer<?>> compactSerializers) {
+        CompactSerializationConfig compactSerializationConfig = config.getSerializationConfig().getCompactSerializationConfig();
+        compactSerializers
+            .orderedStream()
+            .forEach(serializer -> {
+                LOG.debug("Registering Hazelcast compact serializer for {}", serializer.getCompactClass().getName());
+                compactSerializationConfig.addSerializer(serializer);
+            });
+    }
+
+    private static NearCacheConfig initializeNearCacheConfig(String mapName, ApplicationProperties.Cache.NearCache nearCache) {
+        NearCacheConfig nearCacheConfig = new NearCacheConfig(mapName);
+
+        /*
+        Entries are removed from the near caches of every node when they
+        are updated or removed, otherwise they only expire.
+        */
+        nearCacheConfig.setInvalidateOnChange(nearCache.isInvalidateOnChange());
+
+        /*
+        BINARY keeps the serialized entries, and deserializes them on each read.
+        OBJECT keeps the deserialized entries, and returns the same instance on each read.
+        */
+        nearCacheConfig.setInMemoryFormat(InMemoryFormat.valueOf(nearCache.getInMemoryFormat()));
+
+        nearCacheConfig.setTimeToLiveSeconds(nearCache.getTimeToLiveSeconds());
+        nearCacheConfig.setMaxIdleSeconds(nearCache.getMaxIdleSeconds());
+        nearCacheConfig.setCacheLocalEntries(nearCache.isCacheLocalEntries());
+        nearCacheConfig
+            .getEvictionConfig()
+            .setEvictionPolicy(EvictionPolicy.LRU)
+            .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+            .setSize(nearCache.getMaxSize());
+        return nearCacheConfig;
+    }
+
     @Autowired(required = false)
     public void setGitProperties(GitProperties gitProperties) {
         this.gitProperties = gitProperties;
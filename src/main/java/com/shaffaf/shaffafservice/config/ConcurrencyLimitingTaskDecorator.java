@@ -0,0 +1,95 @@
+package com.shaffaf.shaffafservice.config;
+
+import com.shaffaf.shaffafservice.management.TaskExecutorMetersDecorator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * {@link TaskDecorator} limiting the tasks running at once on an executor starting a thread per task, such as the
+ * {@link org.springframework.core.task.SimpleAsyncTaskExecutor} on virtual threads.
+ * <p>
+ * The tasks beyond the concurrency limit wait for their turn on their own thread, so that the callers of the executor
+ * never block, as they would on the concurrency limit of the executor itself: this is the queue of a pool of threads.
+ * The tasks beyond the queue capacity are rejected. The tasks still waiting when the executor is closed never run, and
+ * are discarded from the meters.
+ */
+class ConcurrencyLimitingTaskDecorator implements TaskDecorator {
+
+    private final TaskExecutorMetersDecorator meters;
+
+    private final int concurrencyLimit;
+
+    private final int queueCapacity;
+
+    private final BooleanSupplier executorActive;
+
+    private final Semaphore permits;
+
+    private final AtomicInteger waitingTasks = new AtomicInteger();
+
+    /**
+     * @param meters the meters of the executor, decorating the tasks.
+     * @param concurrencyLimit the maximum number of tasks running at once.
+     * @param queueCapacity the maximum number of tasks waiting to run.
+     * @param executorActive whether the executor is still active, false once it is closed.
+     */
+    ConcurrencyLimitingTaskDecorator(
+        TaskExecutorMetersDecorator meters,
+        int concurrencyLimit,
+        int queueCapacity,
+        BooleanSupplier executorActive
+    ) {
+        this.meters = meters;
+        this.concurrencyLimit = concurrencyLimit;
+        this.queueCapacity = queueCapacity;
+        this.executorActive = executorActive;
+        this.permits = new Semaphore(concurrencyLimit, true);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        if (waitingTasks.incrementAndGet() > queueCapacity) {
+            waitingTasks.decrementAndGet();
+            throw new TaskRejectedException(
+                "Executor limited to " + concurrencyLimit + " running and " + queueCapacity + " waiting tasks did not accept " + runnable
+            );
+        }
+        Runnable meteredTask = meters.decorate(runnable);
+        return () -> {
+            if (!acquire()) {
+                meters.discard(meteredTask);
+                return;
+            }
+            try {
+                meteredTask.run();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * Waits for the turn of a task.
+     *
+     * @return true when the task is to run, false when the executor was closed while it waited.
+     */
+    private boolean acquire() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            waitingTasks.decrementAndGet();
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        waitingTasks.decrementAndGet();
+        // A running task interrupted by the closing executor may have passed its turn before this one was interrupted
+        if (!executorActive.getAsBoolean()) {
+            permits.release();
+            return false;
+        }
+        return true;
+    }
+}
@@ -1,12 +1,70 @@
 package com.shaffaf.shaffafservice.config;
 
+import com.hazelcast.core.HazelcastInstance;
+import com.shaffaf.shaffafservice.repository.TotalCountInvalidationListener;
+import com.shaffaf.shaffafservice.repository.TotalCounter;
+import java.time.Duration;
+import java.util.List;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @Configuration
 @EnableJpaRepositories({ "com.shaffaf.shaffafservice.repository" })
 @EnableJpaAuditing(auditorAwareRef = "springSecurityAuditorAware")
 @EnableTransactionManagement
-public class DatabaseConfiguration {}
+public class DatabaseConfiguration {
+
+    @Bean
+    public TotalCounter totalCounter(
+        HazelcastInstance hazelcastInstance,
+        JdbcTemplate jdbcTemplate,
+        ApplicationProperties applicationProperties
+    ) {
+        ApplicationProperties.Pagination pagination = applicationProperties.getPagination();
+        return new TotalCounter(
+            hazelcastInstance,
+            jdbcTemplate,
+            Duration.ofSeconds(pagination.getCachedCountTtlSeconds()),
+            pagination.getDefaultCountMode(),
+            pagination.getCountModes()
+        );
+    }
+
+    /**
+     * Registers the {@link TotalCountInvalidationListener}, which Hibernate does not create from the Spring beans.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer totalCountInvalidationCustomizer(ObjectProvider<TotalCounter> totalCounter) {
+        TotalCountInvalidationListener listener = new TotalCountInvalidationListener(totalCounter::getObject);
+        Integrator integrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+                EventListenerRegistry eventListenerRegistry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+                eventListenerRegistry.appendListeners(EventType.POST_INSERT, listener);
+                eventListenerRegistry.appendListeners(EventType.POST_DELETE, listener);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+                // The listeners go with the session factory
+            }
+        };
+        return hibernateProperties ->
+            hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(integrator));
+    }
+}
@@ -29,9 +29,14 @@ public class LiquibaseConfiguration {
         this.env = env;
     }
 
+    @Bean
+    public LiquibaseMigrationTracker liquibaseMigrationTracker(@Qualifier("taskExecutor") Executor executor) {
+        return new LiquibaseMigrationTracker(executor);
+    }
+
     @Bean
     public SpringLiquibase liquibase(
-        @Qualifier("taskExecutor") Executor executor,
+        LiquibaseMigrationTracker liquibaseMigrationTracker,
         LiquibaseProperties liquibaseProperties,
         @LiquibaseDataSource ObjectProvider<DataSource> liquibaseDataSource,
         ObjectProvider<DataSource> dataSource,
@@ -42,7 +47,7 @@ public class LiquibaseConfiguration {
         if (Boolean.TRUE.equals(applicationProperties.getLiquibase().getAsyncStart())) {
             liquibase = SpringLiquibaseUtil.createAsyncSpringLiquibase(
                 this.env,
-                executor,
+                liquibaseMigrationTracker.getExecutor(),
                 liquibaseDataSource.getIfAvailable(),
                 liquibaseProperties,
                 dataSource.getIfUnique(),
@@ -0,0 +1,48 @@
+package com.shaffaf.shaffafservice.config;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Tells when the database migration is over, through the executor of the asynchronous Liquibase start.
+ * <p>
+ * Liquibase only starts asynchronously with some profiles: when it did not use the executor, the migration ran when the
+ * {@code liquibase} bean was created.
+ */
+public class LiquibaseMigrationTracker {
+
+    private final Executor delegate;
+
+    private final CompletableFuture<Void> migration = new CompletableFuture<>();
+
+    private volatile boolean asynchronous;
+
+    public LiquibaseMigrationTracker(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * @return the executor to start Liquibase with.
+     */
+    public Executor getExecutor() {
+        return this::execute;
+    }
+
+    private void execute(Runnable command) {
+        asynchronous = true;
+        delegate.execute(() -> {
+            try {
+                command.run();
+            } finally {
+                migration.complete(null);
+            }
+        });
+    }
+
+    /**
+     * @return the stage completed when the database migration is over, once the {@code liquibase} bean is created.
+     */
+    public CompletableFuture<Void> whenMigrated() {
+        return asynchronous ? migration : CompletableFuture.completedFuture(null);
+    }
+}
@@ -1,6 +1,8 @@
 package com.shaffaf.shaffafservice.config;
 
 import com.shaffaf.shaffafservice.aop.logging.LoggingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.*;
 import org.springframework.core.env.Environment;
 import tech.jhipster.config.JHipsterConstants;
@@ -9,9 +11,18 @@ import tech.jhipster.config.JHipsterConstants;
 @EnableAspectJAutoProxy
 public class LoggingAspectConfiguration {
 
+    private static final String MODE_PROPERTY = "application.logging-aspect.mode";
+
     @Bean
     @Profile(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT)
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "log", matchIfMissing = true)
     public LoggingAspect loggingAspect(Environment env) {
         return new LoggingAspect(env);
     }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "metrics")
+    public LoggingAspect meteredLoggingAspect(Environment env, MeterRegistry meterRegistry, ApplicationProperties applicationProperties) {
+        return new LoggingAspect(env, meterRegistry, applicationProperties.getLoggingAspect().getArgumentSampleRate());
+    }
 }
@@ -2,10 +2,21 @@ package com.shaffaf.shaffafservice.config;
 
 import static tech.jhipster.config.logging.LoggingUtils.*;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggerContextListener;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import ch.qos.logback.core.spi.ConfigurationEvent;
+import ch.qos.logback.core.spi.ConfigurationEventListener;
+import ch.qos.logback.core.spi.ContextAwareBase;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
@@ -13,11 +24,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.cloud.consul.serviceregistry.ConsulRegistration;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import tech.jhipster.config.JHipsterProperties;
 
 /*
- * Configures the console and Logstash log appenders from the app properties
+ * Configures the console and Logstash log appenders from the app properties, and wraps them in the asynchronous appender
  */
 @Configuration
 @RefreshScope
@@ -29,9 +41,12 @@ public class LoggingConfiguration {
         JHipsterProperties jHipsterProperties,
         ObjectProvider<ConsulRegistration> consulRegistration,
         ObjectProvider<BuildProperties> buildProperties,
-        ObjectMapper mapper
+        ObjectMapper mapper,
+        ApplicationProperties applicationProperties
     ) throws JsonProcessingException {
         LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        // The appenders are configured again when the configuration is refreshed
+        removeRingBufferAsyncAppender(context);
 
         Map<String, String> map = new HashMap<>();
         map.put("app_name", appName);
@@ -52,5 +67,141 @@ public class LoggingConfiguration {
         if (loggingProperties.isUseJsonFormat() || logstashProperties.isEnabled()) {
             addContextListener(context, customFields, loggingProperties);
         }
+
+        ApplicationProperties.Logging.Async asyncProperties = applicationProperties.getLogging().getAsync();
+        if (asyncProperties.isEnabled()) {
+            addRingBufferAsyncAppender(context, asyncProperties);
+            addRingBufferAsyncContextListener(context, asyncProperties);
+        }
+    }
+
+    @Bean
+    public RingBufferAsyncAppenderMeters ringBufferAsyncAppenderMeters() {
+        return new RingBufferAsyncAppenderMeters((LoggerContext) LoggerFactory.getILoggerFactory());
+    }
+
+    private static void removeRingBufferAsyncAppender(LoggerContext context) {
+        unwrapRingBufferAsyncAppender(context);
+        context
+            .getCopyOfListenerList()
+            .stream()
+            .filter(RingBufferAsyncContextListener.class::isInstance)
+            .forEach(listener -> {
+                context.removeListener(listener);
+                context.removeConfigurationEventListener((RingBufferAsyncContextListener) listener);
+            });
+    }
+
+    /**
+     * Moves the appenders of the {@link RingBufferAsyncAppender} back to the root logger.
+     */
+    private static void unwrapRingBufferAsyncAppender(LoggerContext context) {
+        Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        if (rootLogger.getAppender(RingBufferAsyncAppender.APPENDER_NAME) instanceof RingBufferAsyncAppender asyncAppender) {
+            rootLogger.detachAppender(asyncAppender);
+            for (Appender<ILoggingEvent> appender : asyncAppender.stopAndDetachAppenders()) {
+                rootLogger.addAppender(appender);
+            }
+        }
+    }
+
+    /**
+     * Moves the synchronous appenders of the root logger, such as the console, behind a {@link RingBufferAsyncAppender}.
+     * The Logstash appender is already asynchronous and stays on the root logger.
+     */
+    static void addRingBufferAsyncAppender(LoggerContext context, ApplicationProperties.Logging.Async asyncProperties) {
+        Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        List<Appender<ILoggingEvent>> synchronousAppenders = new ArrayList<>();
+        rootLogger.iteratorForAppenders().forEachRemaining(appender -> {
+            if (!isAsynchronous(appender)) {
+                synchronousAppenders.add(appender);
+            }
+        });
+        if (synchronousAppenders.isEmpty()) {
+            return;
+        }
+
+        RingBufferAsyncAppender asyncAppender = new RingBufferAsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName(RingBufferAsyncAppender.APPENDER_NAME);
+        asyncAppender.setQueueSize(asyncProperties.getQueueSize());
+        asyncAppender.setDiscardingThreshold(asyncProperties.getDiscardingThreshold());
+        asyncAppender.setDroppableLevel(asyncProperties.getDroppableLevel());
+        asyncAppender.setMaxFlushTime(asyncProperties.getMaxFlushTime());
+        synchronousAppenders.forEach(asyncAppender::addAppender);
+        asyncAppender.start();
+
+        rootLogger.addAppender(asyncAppender);
+        synchronousAppenders.forEach(rootLogger::detachAppender);
+    }
+
+    private static boolean isAsynchronous(Appender<ILoggingEvent> appender) {
+        if (appender instanceof AsyncAppenderBase || appender instanceof RingBufferAsyncAppender) {
+            return true;
+        }
+        // The Logstash appenders are not always on the classpath
+        for (Class<?> type = appender.getClass(); type != null; type = type.getSuperclass()) {
+            if ("net.logstash.logback.appender.AsyncDisruptorAppender".equals(type.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static void addRingBufferAsyncContextListener(LoggerContext context, ApplicationProperties.Logging.Async asyncProperties) {
+        RingBufferAsyncContextListener listener = new RingBufferAsyncContextListener(asyncProperties);
+        listener.setContext(context);
+        context.addListener(listener);
+        context.addConfigurationEventListener(listener);
+    }
+
+    /**
+     * Wraps the appenders again after a reset of the logger context, following the listener re-adding the JSON console
+     * and Logstash appenders, and once more at the end of the reconfiguration which follows the reset, as the
+     * configurator attaches the appenders of the configuration file, such as the console, after the reset.
+     */
+    static class RingBufferAsyncContextListener
+        extends ContextAwareBase
+        implements LoggerContextListener, ConfigurationEventListener {
+
+        private final ApplicationProperties.Logging.Async asyncProperties;
+
+        RingBufferAsyncContextListener(ApplicationProperties.Logging.Async asyncProperties) {
+            this.asyncProperties = asyncProperties;
+        }
+
+        @Override
+        public boolean isResetResistant() {
+            return true;
+        }
+
+        @Override
+        public void onStart(LoggerContext context) {
+            addRingBufferAsyncAppender(context, asyncProperties);
+        }
+
+        @Override
+        public void onReset(LoggerContext context) {
+            addRingBufferAsyncAppender(context, asyncProperties);
+        }
+
+        @Override
+        public void listen(ConfigurationEvent configurationEvent) {
+            if (configurationEvent.getEventType() == ConfigurationEvent.EventType.CONFIGURATION_ENDED_SUCCESSFULLY) {
+                LoggerContext loggerContext = (LoggerContext) getContext();
+                unwrapRingBufferAsyncAppender(loggerContext);
+                addRingBufferAsyncAppender(loggerContext, asyncProperties);
+            }
+        }
+
+        @Override
+        public void onStop(LoggerContext context) {
+            // Nothing to do.
+        }
+
+        @Override
+        public void onLevelChange(Logger logger, Level level) {
+            // Nothing to do.
+        }
     }
 }
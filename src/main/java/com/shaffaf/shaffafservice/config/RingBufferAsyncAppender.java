@@ -0,0 +1,407 @@
+package com.shaffaf.shaffafservice.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous appender handing the events over to its appenders through a bounded, lock-free ring buffer, so that the
+ * logging threads never wait on a slow appender such as the console.
+ * <p>
+ * When the remaining capacity of the ring buffer falls under the {@link #setDiscardingThreshold(int) discarding
+ * threshold}, the events at or below the {@link #setDroppableLevel(String) droppable level} (TRACE, DEBUG and INFO by
+ * default) are dropped and counted. WARN and ERROR events are never dropped: when the ring buffer is full, the logging
+ * thread waits for room.
+ */
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+    public static final String APPENDER_NAME = "ASYNC";
+
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+
+    public static final int DEFAULT_MAX_FLUSH_TIME = 1000;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+
+    private int discardingThreshold = -1;
+
+    private Level droppableLevel = Level.INFO;
+
+    private int maxFlushTime = DEFAULT_MAX_FLUSH_TIME;
+
+    private RingBuffer ringBuffer;
+
+    private Thread worker;
+
+    private volatile boolean workerWaiting;
+
+    private final LongAdder queuedCount = new LongAdder();
+
+    private final LongAdder droppedTraceCount = new LongAdder();
+
+    private final LongAdder droppedDebugCount = new LongAdder();
+
+    private final LongAdder droppedInfoCount = new LongAdder();
+
+    private final LongAdder flushCount = new LongAdder();
+
+    private final LongAdder flushTotalNanos = new LongAdder();
+
+    /**
+     * Sets the capacity of the ring buffer, rounded up to a power of two.
+     */
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Sets the remaining capacity under which the droppable events are dropped, a fifth of the capacity when negative.
+     */
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public int getDiscardingThreshold() {
+        return discardingThreshold;
+    }
+
+    /**
+     * Sets the highest level of the events dropped on overflow, at most INFO.
+     */
+    public void setDroppableLevel(String droppableLevel) {
+        this.droppableLevel = Level.toLevel(droppableLevel, Level.INFO);
+    }
+
+    public String getDroppableLevel() {
+        return droppableLevel.toString();
+    }
+
+    /**
+     * Sets the maximum time, in milliseconds, to wait for the queued events to be appended when stopping.
+     */
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (queueSize < 1) {
+            addError("Invalid queue size [" + queueSize + "]");
+            return;
+        }
+        if (droppableLevel.isGreaterOrEqual(Level.WARN)) {
+            addWarn("WARN and ERROR events are never dropped, INFO is the highest droppable level");
+            droppableLevel = Level.INFO;
+        }
+        ringBuffer = new RingBuffer(queueSize);
+        if (discardingThreshold < 0) {
+            discardingThreshold = ringBuffer.capacity() / 5;
+        }
+        worker = new Thread(this::drain, "logback-" + getName());
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (stopWorker()) {
+            appenders.detachAndStopAllAppenders();
+        }
+    }
+
+    /**
+     * Stops the appender once its queued events are appended, and detaches its appenders without stopping them, so
+     * that they can be attached back to a logger.
+     *
+     * @return the appenders which were attached to this appender.
+     */
+    public List<Appender<ILoggingEvent>> stopAndDetachAppenders() {
+        stopWorker();
+        List<Appender<ILoggingEvent>> detached = new ArrayList<>();
+        iteratorForAppenders().forEachRemaining(detached::add);
+        detached.forEach(appenders::detachAppender);
+        return detached;
+    }
+
+    private boolean stopWorker() {
+        if (!isStarted()) {
+            return false;
+        }
+        super.stop();
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            addWarn("Max flush time of " + maxFlushTime + " ms exceeded, " + ringBuffer.size() + " queued events were discarded");
+        }
+        return true;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        Thread current = Thread.currentThread();
+        if (current == worker) {
+            // An appender logging while appending: waiting for room would never end
+            appenders.appendLoopOnAppenders(event);
+            return;
+        }
+        boolean droppable = !event.getLevel().isGreaterOrEqual(Level.WARN) && droppableLevel.isGreaterOrEqual(event.getLevel());
+        if (droppable && ringBuffer.remainingCapacity() < discardingThreshold) {
+            drop(event);
+            return;
+        }
+        event.prepareForDeferredProcessing();
+        while (!ringBuffer.offer(event, System.nanoTime())) {
+            if (droppable) {
+                drop(event);
+                return;
+            }
+            if (!isStarted()) {
+                return;
+            }
+            LockSupport.unpark(worker);
+            LockSupport.parkNanos(this, FULL_PARK_NANOS);
+        }
+        queuedCount.increment();
+        if (workerWaiting) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void drop(ILoggingEvent event) {
+        int level = event.getLevel().toInt();
+        if (level <= Level.TRACE_INT) {
+            droppedTraceCount.increment();
+        } else if (level <= Level.DEBUG_INT) {
+            droppedDebugCount.increment();
+        } else {
+            droppedInfoCount.increment();
+        }
+    }
+
+    private void drain() {
+        RingBuffer buffer = ringBuffer;
+        while (true) {
+            if (!buffer.isEmpty()) {
+                long enqueued = buffer.peekEnqueuedNanos();
+                ILoggingEvent event = buffer.poll();
+                try {
+                    appenders.appendLoopOnAppenders(event);
+                } catch (RuntimeException e) {
+                    addError("Failed to append " + event, e);
+                }
+                flushCount.increment();
+                flushTotalNanos.add(System.nanoTime() - enqueued);
+            } else if (!isStarted()) {
+                return;
+            } else {
+                workerWaiting = true;
+                if (buffer.isEmpty() && isStarted()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                workerWaiting = false;
+            }
+        }
+    }
+
+    /**
+     * @return the number of events queued since the appender started.
+     */
+    public long getQueuedCount() {
+        return queuedCount.sum();
+    }
+
+    /**
+     * @param level the level of the events.
+     * @return the number of events of the level dropped since the appender started.
+     */
+    public long getDroppedCount(Level level) {
+        return switch (level.toInt()) {
+            case Level.TRACE_INT -> droppedTraceCount.sum();
+            case Level.DEBUG_INT -> droppedDebugCount.sum();
+            case Level.INFO_INT -> droppedInfoCount.sum();
+            default -> 0;
+        };
+    }
+
+    /**
+     * @return the number of queued events appended by the appenders.
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    /**
+     * @param unit the unit of the returned time.
+     * @return the total time from the queuing of the events until they were appended by the appenders.
+     */
+    public double getFlushTotalTime(TimeUnit unit) {
+        return (double) flushTotalNanos.sum() / unit.toNanos(1);
+    }
+
+    /**
+     * @return the number of events waiting in the ring buffer.
+     */
+    public int getQueuedSize() {
+        RingBuffer buffer = ringBuffer;
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+
+    /**
+     * Bounded multi-producer, single-consumer queue: each slot has a sequence number telling whether it is free for the
+     * producer of a position, or filled for the consumer of that position, so that producers only contend on a
+     * compare-and-set of the tail.
+     */
+    private static final class RingBuffer {
+
+        private final int mask;
+
+        private final AtomicReferenceArray<ILoggingEvent> events;
+
+        // Written before the slot sequence is published, and read after it is, as the events
+        private final long[] enqueuedNanos;
+
+        private final AtomicLongArray sequences;
+
+        private final AtomicLong tail = new AtomicLong();
+
+        private final AtomicLong head = new AtomicLong();
+
+        RingBuffer(int minCapacity) {
+            int capacity = Integer.highestOneBit(minCapacity);
+            if (capacity < minCapacity) {
+                capacity <<= 1;
+            }
+            mask = capacity - 1;
+            events = new AtomicReferenceArray<>(capacity);
+            enqueuedNanos = new long[capacity];
+            sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        boolean offer(ILoggingEvent event, long nanos) {
+            long position = tail.get();
+            while (true) {
+                int index = (int) (position & mask);
+                long available = sequences.get(index) - position;
+                if (available == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        events.lazySet(index, event);
+                        enqueuedNanos[index] = nanos;
+                        sequences.set(index, position + 1);
+                        return true;
+                    }
+                    position = tail.get();
+                } else if (available < 0) {
+                    return false;
+                } else {
+                    position = tail.get();
+                }
+            }
+        }
+
+        // The consumer methods are only called by the worker thread
+
+        boolean isEmpty() {
+            long position = head.get();
+            return sequences.get((int) (position & mask)) != position + 1;
+        }
+
+        long peekEnqueuedNanos() {
+            return enqueuedNanos[(int) (head.get() & mask)];
+        }
+
+        ILoggingEvent poll() {
+            long position = head.get();
+            int index = (int) (position & mask);
+            ILoggingEvent event = events.get(index);
+            events.lazySet(index, null);
+            sequences.set(index, position + mask + 1);
+            head.lazySet(position + 1);
+            return event;
+        }
+
+        int size() {
+            long size = tail.get() - head.get();
+            return (int) Math.max(0, Math.min(size, capacity()));
+        }
+
+        int remainingCapacity() {
+            return capacity() - size();
+        }
+    }
+}
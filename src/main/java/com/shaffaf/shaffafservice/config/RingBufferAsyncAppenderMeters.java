@@ -0,0 +1,80 @@
+package com.shaffaf.shaffafservice.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Binds the meters of the {@link RingBufferAsyncAppender} of the root logger.
+ * <p>
+ * The appender is looked up when the meters are read, as it is replaced when the logging configuration is refreshed:
+ * the meters then restart from zero.
+ */
+public class RingBufferAsyncAppenderMeters implements MeterBinder {
+
+    public static final String QUEUED_METER_NAME = "logging.async.queued";
+    public static final String QUEUED_METER_DESCRIPTION = "Indicates the log events queued to the asynchronous appender.";
+
+    public static final String DROPPED_METER_NAME = "logging.async.dropped";
+    public static final String DROPPED_METER_DESCRIPTION = "Indicates the log events dropped by the asynchronous appender on overflow.";
+    public static final String DROPPED_METER_LEVEL_DIMENSION = "level";
+
+    public static final String FLUSH_METER_NAME = "logging.async.flush";
+    public static final String FLUSH_METER_DESCRIPTION = "Indicates the time from the queuing of the log events until they were appended.";
+
+    public static final String QUEUE_SIZE_METER_NAME = "logging.async.queue.size";
+    public static final String QUEUE_SIZE_METER_DESCRIPTION = "Indicates the log events waiting in the asynchronous appender.";
+
+    public static final String EVENTS_METER_BASE_UNIT = "events";
+
+    private static final List<Level> DROPPABLE_LEVELS = List.of(Level.TRACE, Level.DEBUG, Level.INFO);
+
+    private final LoggerContext context;
+
+    public RingBufferAsyncAppenderMeters(LoggerContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(QUEUED_METER_NAME, this, meters -> meters.read(RingBufferAsyncAppender::getQueuedCount))
+            .baseUnit(EVENTS_METER_BASE_UNIT)
+            .description(QUEUED_METER_DESCRIPTION)
+            .register(registry);
+        for (Level level : DROPPABLE_LEVELS) {
+            FunctionCounter.builder(DROPPED_METER_NAME, this, meters -> meters.read(appender -> appender.getDroppedCount(level)))
+                .baseUnit(EVENTS_METER_BASE_UNIT)
+                .description(DROPPED_METER_DESCRIPTION)
+                .tag(DROPPED_METER_LEVEL_DIMENSION, level.toString())
+                .register(registry);
+        }
+        FunctionTimer.builder(
+            FLUSH_METER_NAME,
+            this,
+            meters -> (long) meters.read(RingBufferAsyncAppender::getFlushCount),
+            meters -> meters.read(appender -> appender.getFlushTotalTime(TimeUnit.NANOSECONDS)),
+            TimeUnit.NANOSECONDS
+        )
+            .description(FLUSH_METER_DESCRIPTION)
+            .register(registry);
+        Gauge.builder(QUEUE_SIZE_METER_NAME, this, meters -> meters.read(RingBufferAsyncAppender::getQueuedSize))
+            .baseUnit(EVENTS_METER_BASE_UNIT)
+            .description(QUEUE_SIZE_METER_DESCRIPTION)
+            .register(registry);
+    }
+
+    private double read(ToDoubleFunction<RingBufferAsyncAppender> stat) {
+        if (context.getLogger(Logger.ROOT_LOGGER_NAME).getAppender(RingBufferAsyncAppender.APPENDER_NAME) instanceof RingBufferAsyncAppender appender) {
+            return stat.applyAsDouble(appender);
+        }
+        return 0;
+    }
+}
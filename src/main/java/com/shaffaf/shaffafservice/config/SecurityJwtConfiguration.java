@@ -1,10 +1,16 @@
 package com.shaffaf.shaffafservice.config;
 
+import static com.shaffaf.shaffafservice.security.SecurityUtils.AUTHORITIES_CLAIM;
 import static com.shaffaf.shaffafservice.security.SecurityUtils.JWT_ALGORITHM;
 
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.util.Base64;
 import com.shaffaf.shaffafservice.management.SecurityMetersService;
+import com.shaffaf.shaffafservice.security.jwt.AuthoritySetJwtAuthenticationConverter;
+import com.shaffaf.shaffafservice.security.jwt.CachingJwtDecoder;
+import com.shaffaf.shaffafservice.security.jwt.MeteredJwtDecoder;
+import com.shaffaf.shaffafservice.security.jwt.TypedJwtValidator;
+import java.time.Duration;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.slf4j.Logger;
@@ -14,8 +20,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 
 @Configuration
 public class SecurityJwtConfiguration {
@@ -25,29 +33,36 @@ public class SecurityJwtConfiguration {
     @Value("${jhipster.security.authentication.jwt.base64-secret}")
     private String jwtKey;
 
+    @Value("${spring.security.oauth2.resourceserver.jwt.authorities-claim-name:" + AUTHORITIES_CLAIM + "}")
+    private String authoritiesClaimName;
+
+    @Value("${spring.security.oauth2.resourceserver.jwt.authority-prefix:}")
+    private String authorityPrefix;
+
     @Bean
-    public JwtDecoder jwtDecoder(SecurityMetersService metersService) {
+    public JwtDecoder jwtDecoder(SecurityMetersService metersService, ApplicationProperties applicationProperties) {
         NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withSecretKey(getSecretKey()).macAlgorithm(JWT_ALGORITHM).build();
-        return token -> {
-            try {
-                return jwtDecoder.decode(token);
-            } catch (Exception e) {
-                if (e.getMessage().contains("Invalid signature")) {
-                    metersService.trackTokenInvalidSignature();
-                } else if (e.getMessage().contains("Jwt expired at")) {
-                    metersService.trackTokenExpired();
-                } else if (
-                    e.getMessage().contains("Invalid JWT serialization") ||
-                    e.getMessage().contains("Malformed token") ||
-                    e.getMessage().contains("Invalid unsecured/JWS/JWE")
-                ) {
-                    metersService.trackTokenMalformed();
-                } else {
-                    LOG.error("Unknown JWT error {}", e.getMessage());
-                }
-                throw e;
-            }
-        };
+        jwtDecoder.setJwtValidator(new TypedJwtValidator(JwtValidators.createDefault()));
+        JwtDecoder meteredJwtDecoder = new MeteredJwtDecoder(jwtDecoder, metersService);
+        ApplicationProperties.Security.JwtCache jwtCache = applicationProperties.getSecurity().getJwtCache();
+        if (!jwtCache.isEnabled()) {
+            return meteredJwtDecoder;
+        }
+        LOG.debug("Caching up to {} verified JWTs", jwtCache.getMaxSize());
+        return new CachingJwtDecoder(
+            meteredJwtDecoder,
+            metersService,
+            jwtCache.getMaxSize(),
+            Duration.ofSeconds(jwtCache.getTimeToLiveSeconds())
+        );
+    }
+
+    @Bean
+    public AuthoritySetJwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        grantedAuthoritiesConverter.setAuthoritiesClaimName(authoritiesClaimName);
+        grantedAuthoritiesConverter.setAuthorityPrefix(authorityPrefix);
+        return new AuthoritySetJwtAuthenticationConverter(grantedAuthoritiesConverter);
     }
 
     @Bean
@@ -0,0 +1,82 @@
+package com.shaffaf.shaffafservice.config;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.discovery.AbstractDiscoveryStrategy;
+import com.hazelcast.spi.discovery.DiscoveryNode;
+import com.hazelcast.spi.discovery.SimpleDiscoveryNode;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+/**
+ * Hazelcast discovery strategy returning the instances of a service registered in the Spring Cloud
+ * {@link DiscoveryClient}, such as the Consul catalog.
+ * <p>
+ * The registry is read each time Hazelcast discovers the members: when the node joins, and on each merge check, so
+ * that nodes registered after startup join the cluster.
+ */
+public class ServiceRegistryDiscoveryStrategy extends AbstractDiscoveryStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceRegistryDiscoveryStrategy.class);
+
+    private final DiscoveryClient discoveryClient;
+
+    private final String serviceId;
+
+    private final Function<ServiceInstance, String> memberAddress;
+
+    /**
+     * @param discoveryClient the client of the service registry.
+     * @param serviceId the identifier of the service, whose instances are the members.
+     * @param memberAddress the Hazelcast address, as {@code host:port}, of a service instance.
+     * @param logger the Hazelcast logger.
+     * @param properties the properties of the strategy.
+     */
+    public ServiceRegistryDiscoveryStrategy(
+        DiscoveryClient discoveryClient,
+        String serviceId,
+        Function<ServiceInstance, String> memberAddress,
+        ILogger logger,
+        Map<String, Comparable> properties
+    ) {
+        super(logger, properties);
+        this.discoveryClient = discoveryClient;
+        this.serviceId = serviceId;
+        this.memberAddress = memberAddress;
+    }
+
+    @Override
+    public Iterable<DiscoveryNode> discoverNodes() {
+        List<ServiceInstance> instances;
+        try {
+            instances = discoveryClient.getInstances(serviceId);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not read the instances of {} from the service registry: {}", serviceId, e.getMessage());
+            return Collections.emptyList();
+        }
+        List<DiscoveryNode> nodes = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            String clusterMember = memberAddress.apply(instance);
+            try {
+                nodes.add(new SimpleDiscoveryNode(toAddress(clusterMember)));
+                LOG.debug("Discovered Hazelcast cluster member {}", clusterMember);
+            } catch (UnknownHostException e) {
+                LOG.warn("Could not resolve Hazelcast cluster member {}: {}", clusterMember, e.getMessage());
+            }
+        }
+        return nodes;
+    }
+
+    private static Address toAddress(String clusterMember) throws UnknownHostException {
+        int separator = clusterMember.lastIndexOf(':');
+        return new Address(clusterMember.substring(0, separator), Integer.parseInt(clusterMember.substring(separator + 1)));
+    }
+}
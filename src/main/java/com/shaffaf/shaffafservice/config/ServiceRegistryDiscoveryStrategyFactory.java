@@ -0,0 +1,55 @@
+package com.shaffaf.shaffafservice.config;
+
+import com.hazelcast.config.properties.PropertyDefinition;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.discovery.DiscoveryNode;
+import com.hazelcast.spi.discovery.DiscoveryStrategy;
+import com.hazelcast.spi.discovery.DiscoveryStrategyFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+/**
+ * Creates the {@link ServiceRegistryDiscoveryStrategy}, with the Spring beans Hazelcast cannot instantiate itself.
+ */
+public class ServiceRegistryDiscoveryStrategyFactory implements DiscoveryStrategyFactory {
+
+    private final DiscoveryClient discoveryClient;
+
+    private final String serviceId;
+
+    private final Function<ServiceInstance, String> memberAddress;
+
+    /**
+     * @param discoveryClient the client of the service registry.
+     * @param serviceId the identifier of the service, whose instances are the members.
+     * @param memberAddress the Hazelcast address, as {@code host:port}, of a service instance.
+     */
+    public ServiceRegistryDiscoveryStrategyFactory(
+        DiscoveryClient discoveryClient,
+        String serviceId,
+        Function<ServiceInstance, String> memberAddress
+    ) {
+        this.discoveryClient = discoveryClient;
+        this.serviceId = serviceId;
+        this.memberAddress = memberAddress;
+    }
+
+    @Override
+    public Class<? extends DiscoveryStrategy> getDiscoveryStrategyType() {
+        return ServiceRegistryDiscoveryStrategy.class;
+    }
+
+    @Override
+    public DiscoveryStrategy newDiscoveryStrategy(DiscoveryNode discoveryNode, ILogger logger, Map<String, Comparable> properties) {
+        return new ServiceRegistryDiscoveryStrategy(discoveryClient, serviceId, memberAddress, logger, properties);
+    }
+
+    @Override
+    public Collection<PropertyDefinition> getConfigurationProperties() {
+        return Collections.emptyList();
+    }
+}
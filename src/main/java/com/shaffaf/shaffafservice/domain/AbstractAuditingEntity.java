@@ -29,9 +29,11 @@ public abstract class AbstractAuditingEntity<T> implements Serializable {
     @Column(name = "created_by", nullable = false, length = 50, updatable = false)
     private String createdBy;
 
+    // The dates are set by the AuditingEntityListener when the entity is saved, rather than on each instantiation,
+    // which includes every entity loaded from the database
     @CreatedDate
     @Column(name = "created_date", updatable = false)
-    private Instant createdDate = Instant.now();
+    private Instant createdDate;
 
     @LastModifiedBy
     @Column(name = "last_modified_by", length = 50)
@@ -39,7 +41,7 @@ public abstract class AbstractAuditingEntity<T> implements Serializable {
 
     @LastModifiedDate
     @Column(name = "last_modified_date")
-    private Instant lastModifiedDate = Instant.now();
+    private Instant lastModifiedDate;
 
     public String getCreatedBy() {
         return createdBy;
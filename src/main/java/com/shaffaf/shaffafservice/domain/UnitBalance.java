@@ -0,0 +1,29 @@
+package com.shaffaf.shaffafservice.domain;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * The running totals of a unit, maintained with each due and collection written, so that its balance is read from a
+ * single row.
+ *
+ * @param unitId the id of the unit.
+ * @param dueAmount the total of the dues of the unit.
+ * @param collectedAmount the total collected from the unit.
+ */
+public record UnitBalance(Long unitId, BigDecimal dueAmount, BigDecimal collectedAmount) implements Serializable {
+    /**
+     * @param unitId the id of the unit.
+     * @return the balance of a unit without any due or collection.
+     */
+    public static UnitBalance empty(Long unitId) {
+        return new UnitBalance(unitId, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    /**
+     * @return the amount owed by the unit, negative when it paid in advance.
+     */
+    public BigDecimal balance() {
+        return dueAmount.subtract(collectedAmount);
+    }
+}
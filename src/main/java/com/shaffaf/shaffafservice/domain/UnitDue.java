@@ -0,0 +1,13 @@
+package com.shaffaf.shaffafservice.domain;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * The dues of a unit for a month, as generated by the monthly dues generation.
+ *
+ * @param unitId the id of the unit.
+ * @param month the month of the dues.
+ * @param amount the amount of the dues, after the discounts.
+ */
+public record UnitDue(Long unitId, YearMonth month, BigDecimal amount) {}
@@ -0,0 +1,25 @@
+package com.shaffaf.shaffafservice.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A {@link UnitBalance} as read or written at a point of the history of its row, so that a cached copy is never
+ * replaced by an older one.
+ *
+ * @param balance the totals of the unit.
+ * @param lastModifiedDate the {@code last_modified_date} of the row, which grows with each write to the row, {@code null}
+ * when the unit has no row yet.
+ */
+public record VersionedUnitBalance(UnitBalance balance, Instant lastModifiedDate) implements Serializable {
+    /**
+     * @param other the balance of the same unit, {@code null} when unknown.
+     * @return whether this balance was written after the other one, or is the same one.
+     */
+    public boolean isAtLeastAsRecentAs(VersionedUnitBalance other) {
+        if (other == null || other.lastModifiedDate() == null) {
+            return true;
+        }
+        return lastModifiedDate != null && !lastModifiedDate.isBefore(other.lastModifiedDate());
+    }
+}
@@ -0,0 +1,18 @@
+package com.shaffaf.shaffafservice.management;
+
+/**
+ * Loads the entries of a cache region at startup, so that the first requests of a new node do not all read the database.
+ * <p>
+ * The warmers declared as beans are run in parallel by the {@link CacheWarmup}.
+ */
+public interface CacheWarmer {
+    /**
+     * @return the name of the warmed cache region.
+     */
+    String getRegion();
+
+    /**
+     * Loads the entries of the region, for example by reading all the reference entities.
+     */
+    void warmUp();
+}
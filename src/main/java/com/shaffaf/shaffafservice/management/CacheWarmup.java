@@ -0,0 +1,133 @@
+package com.shaffaf.shaffafservice.management;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Runs the {@link CacheWarmer}s in parallel once the application is ready and the database is migrated.
+ * <p>
+ * As a health indicator of the "readiness" group, it keeps the node out of the load balancers until the warm-up
+ * completes or times out. A region failing to warm up is logged, and does not keep the node out.
+ */
+public class CacheWarmup implements HealthIndicator, ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheWarmup.class);
+
+    private static final String STATE_DETAIL = "state";
+    private static final String REGIONS_DETAIL = "regions";
+    private static final String DURATION_DETAIL = "durationMs";
+
+    private final List<CacheWarmer> warmers;
+
+    private final Executor executor;
+
+    private final Duration timeout;
+
+    private final Supplier<? extends CompletionStage<?>> precondition;
+
+    private volatile Health health;
+
+    /**
+     * @param warmers the warmers of the cache regions.
+     * @param executor the executor running the warmers.
+     * @param timeout the maximum time the warm-up keeps the node out, {@code null} to disable the warm-up.
+     * @param precondition the stage the warm-up waits for, such as the database migration.
+     */
+    public CacheWarmup(
+        List<CacheWarmer> warmers,
+        Executor executor,
+        Duration timeout,
+        Supplier<? extends CompletionStage<?>> precondition
+    ) {
+        this.warmers = warmers;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.precondition = precondition;
+        this.health = timeout == null ? Health.up().withDetail(STATE_DETAIL, "disabled").build() : health("pending");
+    }
+
+    @Override
+    public Health health() {
+        return health;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        start();
+    }
+
+    /**
+     * Starts the warm-up, when enabled.
+     *
+     * @return the stage completed when the warm-up completes or times out.
+     */
+    public CompletableFuture<Void> start() {
+        if (timeout == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        Map<String, String> regions = new ConcurrentHashMap<>();
+        warmers.forEach(warmer -> regions.put(warmer.getRegion(), "pending"));
+        health = health("warming-up");
+        LOG.debug("Warming up the cache regions {}", regions.keySet());
+        return precondition
+            .get()
+            .toCompletableFuture()
+            .thenCompose(migrated ->
+                CompletableFuture.allOf(
+                    warmers.stream().map(warmer -> CompletableFuture.runAsync(() -> warmUp(warmer, regions), executor)).toArray(CompletableFuture[]::new)
+                )
+            )
+            .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .handle((result, e) -> {
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                String state = "done";
+                if (e instanceof TimeoutException) {
+                    state = "timed-out";
+                    LOG.warn("Cache warm-up timed out after {} ms, the node is ready with cold regions", durationMs);
+                } else if (e != null) {
+                    state = "failed";
+                    LOG.warn("Cache warm-up failed, the node is ready with cold regions", e);
+                } else {
+                    LOG.info("Cache warm-up of {} regions done in {} ms", regions.size(), durationMs);
+                }
+                health = Health.up()
+                    .withDetail(STATE_DETAIL, state)
+                    .withDetail(REGIONS_DETAIL, new TreeMap<>(regions))
+                    .withDetail(DURATION_DETAIL, durationMs)
+                    .build();
+                return null;
+            });
+    }
+
+    private static void warmUp(CacheWarmer warmer, Map<String, String> regions) {
+        try {
+            long start = System.nanoTime();
+            warmer.warmUp();
+            regions.put(warmer.getRegion(), "warmed");
+            LOG.debug("Warmed up {} in {} ms", warmer.getRegion(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            regions.put(warmer.getRegion(), "failed");
+            LOG.warn("Could not warm up {}: {}", warmer.getRegion(), e.getMessage());
+        }
+    }
+
+    private static Health health(String state) {
+        return Health.down().withDetail(STATE_DETAIL, state).build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.shaffaf.shaffafservice.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Service;
+
+/**
+ * Meters of the monthly dues generation: its progress through the blocks of the current run, and its throughput as
+ * the rate of the dues counter.
+ */
+@Service
+public class DuesGenerationMeters {
+
+    public static final String DUES_METER_NAME = "dues.generation.dues";
+    public static final String DUES_METER_DESCRIPTION = "Indicates the dues computed by the dues generation.";
+    public static final String DUES_METER_BASE_UNIT = "dues";
+    public static final String DUES_METER_RESULT_DIMENSION = "result";
+
+    public static final String PARTITIONS_METER_NAME = "dues.generation.partitions";
+    public static final String PARTITIONS_METER_DESCRIPTION = "Indicates the time taken to generate the dues of a block.";
+    public static final String PARTITIONS_METER_OUTCOME_DIMENSION = "outcome";
+
+    public static final String PROGRESS_METER_NAME = "dues.generation.progress";
+    public static final String PROGRESS_METER_DESCRIPTION = "Indicates the ratio of the blocks done by the current dues generation.";
+
+    private final Counter createdDuesCounter;
+    private final Counter existingDuesCounter;
+
+    private final Timer successPartitionsTimer;
+    private final Timer failurePartitionsTimer;
+
+    private final AtomicInteger partitions = new AtomicInteger();
+    private final AtomicInteger donePartitions = new AtomicInteger();
+
+    public DuesGenerationMeters(MeterRegistry registry) {
+        this.createdDuesCounter = duesCounterForResultBuilder("created").register(registry);
+        this.existingDuesCounter = duesCounterForResultBuilder("existing").register(registry);
+
+        this.successPartitionsTimer = partitionsTimerForOutcomeBuilder("success").register(registry);
+        this.failurePartitionsTimer = partitionsTimerForOutcomeBuilder("failure").register(registry);
+
+        Gauge.builder(PROGRESS_METER_NAME, this, DuesGenerationMeters::getProgress).description(PROGRESS_METER_DESCRIPTION).register(registry);
+    }
+
+    private Counter.Builder duesCounterForResultBuilder(String result) {
+        return Counter.builder(DUES_METER_NAME)
+            .baseUnit(DUES_METER_BASE_UNIT)
+            .description(DUES_METER_DESCRIPTION)
+            .tag(DUES_METER_RESULT_DIMENSION, result);
+    }
+
+    private Timer.Builder partitionsTimerForOutcomeBuilder(String outcome) {
+        return Timer.builder(PARTITIONS_METER_NAME)
+            .description(PARTITIONS_METER_DESCRIPTION)
+            .tag(PARTITIONS_METER_OUTCOME_DIMENSION, outcome);
+    }
+
+    /**
+     * @return the ratio of the blocks done by the current run, 1 when no run started.
+     */
+    public double getProgress() {
+        int total = partitions.get();
+        return total == 0 ? 1 : (double) donePartitions.get() / total;
+    }
+
+    public void trackRunStarted(int partitionCount) {
+        this.donePartitions.set(0);
+        this.partitions.set(partitionCount);
+    }
+
+    public void trackPartitionSuccess(long dues, long createdDues, long durationNanos) {
+        this.createdDuesCounter.increment(createdDues);
+        this.existingDuesCounter.increment((double) dues - createdDues);
+        this.successPartitionsTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        this.donePartitions.incrementAndGet();
+    }
+
+    public void trackPartitionFailure(long durationNanos) {
+        this.failurePartitionsTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        this.donePartitions.incrementAndGet();
+    }
+}
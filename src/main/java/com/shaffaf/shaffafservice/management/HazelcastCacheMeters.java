@@ -0,0 +1,109 @@
+package com.shaffaf.shaffafservice.management;
+
+import com.hazelcast.core.DistributedObject;
+import com.hazelcast.core.DistributedObjectEvent;
+import com.hazelcast.core.DistributedObjectListener;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.HazelcastCacheMetrics;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds the cache meters of every Hazelcast map, by region: the Spring caches and the Hibernate second-level cache
+ * regions, including the maps created after startup.
+ * <p>
+ * The meters are the gets by result, puts, evictions, entries and near cache requests of {@link HazelcastCacheMetrics},
+ * with the same tags as the Spring cache meters, so that they are also listed by the "jhimetrics" endpoint. When a map
+ * is destroyed, only the meters registered for it by this binder are removed.
+ */
+public class HazelcastCacheMeters implements MeterBinder, DistributedObjectListener {
+
+    public static final String CACHE_NAME_DIMENSION = "name";
+    public static final String CACHE_MANAGER_DIMENSION = "cache.manager";
+
+    private static final String MAP_SERVICE_NAME = "hz:impl:mapService";
+
+    // Hazelcast internal maps, such as the SQL catalog
+    private static final String INTERNAL_MAP_PREFIX = "__";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final String cacheManagerName;
+
+    // The meters registered for each bound map
+    private final Map<String, Set<Meter.Id>> boundMaps = new ConcurrentHashMap<>();
+
+    // The meters registered by the current thread while it binds a map
+    private final ThreadLocal<Set<Meter.Id>> bindingMeters = new ThreadLocal<>();
+
+    private volatile MeterRegistry registry;
+
+    /**
+     * @param hazelcastInstance the instance of the maps.
+     * @param cacheManagerName the name of the Spring cache manager reading the maps.
+     */
+    public HazelcastCacheMeters(HazelcastInstance hazelcastInstance, String cacheManagerName) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.cacheManagerName = cacheManagerName;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        registry.config().onMeterAdded(this::meterAdded);
+        hazelcastInstance.addDistributedObjectListener(this);
+        for (DistributedObject distributedObject : hazelcastInstance.getDistributedObjects()) {
+            if (distributedObject instanceof IMap<?, ?> map) {
+                bindMap(map);
+            }
+        }
+    }
+
+    @Override
+    public void distributedObjectCreated(DistributedObjectEvent event) {
+        if (MAP_SERVICE_NAME.equals(event.getServiceName())) {
+            bindMap(hazelcastInstance.getMap(event.getObjectName().toString()));
+        }
+    }
+
+    @Override
+    public void distributedObjectDestroyed(DistributedObjectEvent event) {
+        if (MAP_SERVICE_NAME.equals(event.getServiceName())) {
+            Set<Meter.Id> meterIds = boundMaps.remove(event.getObjectName().toString());
+            if (meterIds != null) {
+                meterIds.forEach(registry::remove);
+            }
+        }
+    }
+
+    private void bindMap(IMap<?, ?> map) {
+        String mapName = map.getName();
+        Set<Meter.Id> meterIds = ConcurrentHashMap.newKeySet();
+        if (mapName.startsWith(INTERNAL_MAP_PREFIX) || boundMaps.putIfAbsent(mapName, meterIds) != null) {
+            return;
+        }
+        bindingMeters.set(meterIds);
+        try {
+            new HazelcastCacheMetrics(map, Tags.of(CACHE_NAME_DIMENSION, mapName, CACHE_MANAGER_DIMENSION, cacheManagerName)).bindTo(registry);
+        } finally {
+            bindingMeters.remove();
+        }
+    }
+
+    /**
+     * Records the meters added while binding a map, the meters already registered with the same id, such as the Spring
+     * cache meters, are not this binder's.
+     */
+    private void meterAdded(Meter meter) {
+        Set<Meter.Id> meterIds = bindingMeters.get();
+        if (meterIds != null) {
+            meterIds.add(meter.getId());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.shaffaf.shaffafservice.management;
+
+/**
+ * Outcome of a JWT decoding, as reported by the {@link SecurityMetersService#TOKEN_DECODE_METER_NAME} timer.
+ */
+public enum JwtDecodeOutcome {
+    SUCCESS("success"),
+    CACHED("cached"),
+    EXPIRED("expired"),
+    INVALID_SIGNATURE("invalid-signature"),
+    MALFORMED("malformed"),
+    UNSUPPORTED("unsupported"),
+    INVALID_CLAIMS("invalid-claims"),
+    UNKNOWN("unknown");
+
+    private final String value;
+
+    JwtDecodeOutcome(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
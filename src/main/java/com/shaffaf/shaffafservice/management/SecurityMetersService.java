@@ -2,6 +2,10 @@ package com.shaffaf.shaffafservice.management;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,16 +17,46 @@ public class SecurityMetersService {
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
 
+    public static final String TOKEN_DECODE_METER_NAME = "security.authentication.token-decode";
+    public static final String TOKEN_DECODE_METER_DESCRIPTION = "Indicates the time taken to decode and verify the tokens presented by the clients.";
+    public static final String TOKEN_DECODE_METER_OUTCOME_DIMENSION = "outcome";
+
+    public static final String JWT_CACHE_METER_NAME = "security.authentication.jwt-cache";
+    public static final String JWT_CACHE_METER_DESCRIPTION = "Indicates lookups of the tokens presented by the clients in the verified JWT cache.";
+    public static final String JWT_CACHE_METER_BASE_UNIT = "lookups";
+    public static final String JWT_CACHE_METER_RESULT_DIMENSION = "result";
+
+    public static final String JWT_CACHE_EVICTIONS_METER_NAME = "security.authentication.jwt-cache.evictions";
+    public static final String JWT_CACHE_EVICTIONS_METER_DESCRIPTION = "Indicates evictions of verified tokens from the JWT cache.";
+    public static final String JWT_CACHE_EVICTIONS_METER_BASE_UNIT = "evictions";
+    public static final String JWT_CACHE_EVICTIONS_METER_CAUSE_DIMENSION = "cause";
+
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
 
+    private final Map<JwtDecodeOutcome, Timer> tokenDecodeTimers = new EnumMap<>(JwtDecodeOutcome.class);
+
+    private final Counter jwtCacheHitCounter;
+    private final Counter jwtCacheMissCounter;
+    private final Counter jwtCacheSizeEvictionCounter;
+    private final Counter jwtCacheExpiredEvictionCounter;
+
     public SecurityMetersService(MeterRegistry registry) {
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+
+        for (JwtDecodeOutcome outcome : JwtDecodeOutcome.values()) {
+            this.tokenDecodeTimers.put(outcome, tokenDecodeTimerForOutcomeBuilder(outcome.getValue()).register(registry));
+        }
+
+        this.jwtCacheHitCounter = jwtCacheCounterForResultBuilder("hit").register(registry);
+        this.jwtCacheMissCounter = jwtCacheCounterForResultBuilder("miss").register(registry);
+        this.jwtCacheSizeEvictionCounter = jwtCacheEvictionsCounterForCauseBuilder("size").register(registry);
+        this.jwtCacheExpiredEvictionCounter = jwtCacheEvictionsCounterForCauseBuilder("expired").register(registry);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -32,6 +66,26 @@ public class SecurityMetersService {
             .tag(INVALID_TOKENS_METER_CAUSE_DIMENSION, cause);
     }
 
+    private Timer.Builder tokenDecodeTimerForOutcomeBuilder(String outcome) {
+        return Timer.builder(TOKEN_DECODE_METER_NAME)
+            .description(TOKEN_DECODE_METER_DESCRIPTION)
+            .tag(TOKEN_DECODE_METER_OUTCOME_DIMENSION, outcome);
+    }
+
+    private Counter.Builder jwtCacheCounterForResultBuilder(String result) {
+        return Counter.builder(JWT_CACHE_METER_NAME)
+            .baseUnit(JWT_CACHE_METER_BASE_UNIT)
+            .description(JWT_CACHE_METER_DESCRIPTION)
+            .tag(JWT_CACHE_METER_RESULT_DIMENSION, result);
+    }
+
+    private Counter.Builder jwtCacheEvictionsCounterForCauseBuilder(String cause) {
+        return Counter.builder(JWT_CACHE_EVICTIONS_METER_NAME)
+            .baseUnit(JWT_CACHE_EVICTIONS_METER_BASE_UNIT)
+            .description(JWT_CACHE_EVICTIONS_METER_DESCRIPTION)
+            .tag(JWT_CACHE_EVICTIONS_METER_CAUSE_DIMENSION, cause);
+    }
+
     public void trackTokenInvalidSignature() {
         this.tokenInvalidSignatureCounter.increment();
     }
@@ -47,4 +101,24 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void trackTokenDecode(JwtDecodeOutcome outcome, long durationNanos) {
+        this.tokenDecodeTimers.get(outcome).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackJwtCacheHit() {
+        this.jwtCacheHitCounter.increment();
+    }
+
+    public void trackJwtCacheMiss() {
+        this.jwtCacheMissCounter.increment();
+    }
+
+    public void trackJwtCacheSizeEviction() {
+        this.jwtCacheSizeEvictionCounter.increment();
+    }
+
+    public void trackJwtCacheExpiredEviction() {
+        this.jwtCacheExpiredEvictionCounter.increment();
+    }
 }
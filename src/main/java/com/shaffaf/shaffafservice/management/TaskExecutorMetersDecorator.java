@@ -0,0 +1,134 @@
+package com.shaffaf.shaffafservice.management;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * {@link TaskDecorator} recording the saturation of a task executor, the same way whether its tasks run on a pool of
+ * platform threads or on virtual threads: the pending and active tasks, the concurrency limit, and the time the tasks
+ * wait before running.
+ * <p>
+ * A decorated task is pending until it runs, or until it is {@link #discard(Runnable) discarded} because the executor
+ * rejected it or dropped it on shutdown: the executor has to report those tasks, which never run.
+ */
+public class TaskExecutorMetersDecorator implements TaskDecorator {
+
+    public static final String PENDING_TASKS_METER_NAME = "application.task-executor.pending";
+    public static final String PENDING_TASKS_METER_DESCRIPTION = "Indicates the tasks submitted to the executor and not yet running.";
+
+    public static final String ACTIVE_TASKS_METER_NAME = "application.task-executor.active";
+    public static final String ACTIVE_TASKS_METER_DESCRIPTION = "Indicates the tasks running on the executor.";
+
+    public static final String CONCURRENCY_LIMIT_METER_NAME = "application.task-executor.concurrency-limit";
+    public static final String CONCURRENCY_LIMIT_METER_DESCRIPTION =
+        "Indicates the maximum number of tasks running at once on the executor, -1 when unbounded.";
+
+    public static final String QUEUE_WAIT_METER_NAME = "application.task-executor.queue-wait";
+    public static final String QUEUE_WAIT_METER_DESCRIPTION = "Indicates the time the tasks waited before running on the executor.";
+
+    public static final String TASKS_METER_BASE_UNIT = "tasks";
+    public static final String EXECUTOR_DIMENSION = "executor";
+    public static final String THREADS_DIMENSION = "threads";
+
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    private final Timer queueWaitTimer;
+
+    /**
+     * @param registry the meter registry.
+     * @param executorName the name of the decorated executor.
+     * @param threads the kind of threads running the tasks, {@code platform} or {@code virtual}.
+     * @param concurrencyLimit the maximum number of tasks running at once, -1 when unbounded.
+     */
+    public TaskExecutorMetersDecorator(MeterRegistry registry, String executorName, String threads, int concurrencyLimit) {
+        Tags tags = Tags.of(EXECUTOR_DIMENSION, executorName, THREADS_DIMENSION, threads);
+        Gauge.builder(PENDING_TASKS_METER_NAME, pendingTasks, AtomicInteger::get)
+            .baseUnit(TASKS_METER_BASE_UNIT)
+            .description(PENDING_TASKS_METER_DESCRIPTION)
+            .tags(tags)
+            .register(registry);
+        Gauge.builder(ACTIVE_TASKS_METER_NAME, activeTasks, AtomicInteger::get)
+            .baseUnit(TASKS_METER_BASE_UNIT)
+            .description(ACTIVE_TASKS_METER_DESCRIPTION)
+            .tags(tags)
+            .register(registry);
+        Gauge.builder(CONCURRENCY_LIMIT_METER_NAME, () -> concurrencyLimit)
+            .baseUnit(TASKS_METER_BASE_UNIT)
+            .description(CONCURRENCY_LIMIT_METER_DESCRIPTION)
+            .tags(tags)
+            .register(registry);
+        this.queueWaitTimer = Timer.builder(QUEUE_WAIT_METER_NAME).description(QUEUE_WAIT_METER_DESCRIPTION).tags(tags).register(registry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        pendingTasks.incrementAndGet();
+        return new MeteredTask(runnable, System.nanoTime());
+    }
+
+    /**
+     * Releases a decorated task which will never run.
+     *
+     * @param task the task rejected or dropped by the executor, ignored when not decorated by this decorator.
+     */
+    public void discard(Runnable task) {
+        if (task instanceof MeteredTask meteredTask && meteredTask.leavePending()) {
+            pendingTasks.decrementAndGet();
+        }
+    }
+
+    /**
+     * @param handler the handler of the tasks rejected by the executor.
+     * @return the handler discarding the rejected tasks before delegating to {@code handler}.
+     */
+    public RejectedExecutionHandler discarding(RejectedExecutionHandler handler) {
+        return (task, executor) -> {
+            discard(task);
+            handler.rejectedExecution(task, executor);
+        };
+    }
+
+    private final class MeteredTask implements Runnable {
+
+        private final Runnable runnable;
+
+        private final long submitted;
+
+        private final AtomicBoolean pending = new AtomicBoolean(true);
+
+        private MeteredTask(Runnable runnable, long submitted) {
+            this.runnable = runnable;
+            this.submitted = submitted;
+        }
+
+        /**
+         * @return {@code true} for the first caller only, which releases the pending task.
+         */
+        private boolean leavePending() {
+            return pending.compareAndSet(true, false);
+        }
+
+        @Override
+        public void run() {
+            if (leavePending()) {
+                pendingTasks.decrementAndGet();
+            }
+            queueWaitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+            activeTasks.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                activeTasks.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.shaffaf.shaffafservice.repository;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs the actions which depend on the data written by the current transaction, such as the invalidations of their
+ * cached copies, once the transaction is committed: the other transactions, and the other members of the cluster, then
+ * read the data written rather than the data before.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    /**
+     * Runs the action once the current transaction is committed, or now when no transaction is active. The action is not
+     * run when the transaction is rolled back.
+     *
+     * @param action the action.
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new AfterCommitAction(action));
+    }
+
+    /**
+     * Finds an action registered by {@link #run} on the current transaction, such as an action gathering the work of
+     * several writes of the transaction. The actions of a suspended transaction are not found.
+     *
+     * @param type the type of the action.
+     * @param predicate the predicate of the action.
+     * @param <A> the type of the action.
+     * @return the action waiting for the commit of the current transaction, or empty when none was registered or no
+     * transaction is active.
+     */
+    public static <A extends Runnable> Optional<A> findPending(Class<A> type, Predicate<? super A> predicate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Optional.empty();
+        }
+        return TransactionSynchronizationManager.getSynchronizations()
+            .stream()
+            .filter(AfterCommitAction.class::isInstance)
+            .map(synchronization -> ((AfterCommitAction) synchronization).action)
+            .filter(type::isInstance)
+            .map(type::cast)
+            .filter(predicate)
+            .findFirst();
+    }
+
+    private static final class AfterCommitAction implements TransactionSynchronization {
+
+        private final Runnable action;
+
+        private AfterCommitAction(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void afterCommit() {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.shaffaf.shaffafservice.repository;
+
+/**
+ * How the {@link TotalCounter} counts the entries of a paginated list.
+ */
+public enum CountMode {
+    /**
+     * Runs the count query for each page.
+     */
+    EXACT,
+
+    /**
+     * Runs the count query once, and reuses its result until it expires or an entity of the same type is created or
+     * deleted.
+     */
+    CACHED,
+
+    /**
+     * Reads the number of rows of the table estimated by PostgreSQL from its statistics, without any count query.
+     */
+    ESTIMATED,
+}
@@ -0,0 +1,52 @@
+package com.shaffaf.shaffafservice.repository;
+
+import com.shaffaf.shaffafservice.domain.AbstractAuditingEntity;
+import java.time.Instant;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Delta synchronization of the audited entities to the offline clients, on {@code (lastModifiedDate, id)}.
+ * <p>
+ * The client keeps the position of the last entity it received as its watermark, and reads the entities created,
+ * updated or soft-deleted since, page by page: the entities are deleted by setting their deletion date, which also
+ * sets their {@code lastModifiedDate}, and must not be filtered out by the scope. The table of the entity needs the
+ * matching composite index, in its changelog:
+ * <pre>{@code
+ * <createIndex indexName="idx_unit__last_modified_date_id" tableName="unit">
+ *     <column name="last_modified_date"/>
+ *     <column name="id"/>
+ * </createIndex>
+ * }</pre>
+ * <p>
+ * The watermarks are exchanged with the clients as the cursors of
+ * {@code KeysetPaginationUtil}, which only carry {@link Long} ids.
+ *
+ * @param <E> the type of the entity.
+ */
+@NoRepositoryBean
+public interface DeltaSyncRepository<E extends AbstractAuditingEntity<Long>> extends JpaSpecificationExecutor<E> {
+    /**
+     * The order of the changes, on the keys of the watermark.
+     */
+    Sort SYNC_SORT = Sort.by("lastModifiedDate", "id");
+
+    /**
+     * @param scope the entities synchronized to the client, such as those of its project, deleted ones included.
+     * @param watermark the position after which the changes start, {@link KeysetScrollPosition#initial()} for all
+     * the entities.
+     * @param changedBefore the upper bound of the changes, in the past by more than the longest write transaction:
+     * the {@code lastModifiedDate} is set before the commit, and a change committed after a later one would otherwise
+     * fall behind the watermark.
+     * @param size the maximum number of changes of the page.
+     * @return the page of changes, with the position of its entities.
+     */
+    default Window<E> findChangedSince(Specification<E> scope, KeysetScrollPosition watermark, Instant changedBefore, int size) {
+        Specification<E> changed = (root, query, criteriaBuilder) -> criteriaBuilder.lessThan(root.get("lastModifiedDate"), changedBefore);
+        return findBy(Specification.where(scope).and(changed), query -> query.sortBy(SYNC_SORT).limit(size).scroll(watermark));
+    }
+}
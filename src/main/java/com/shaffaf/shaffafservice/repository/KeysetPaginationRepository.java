@@ -0,0 +1,55 @@
+package com.shaffaf.shaffafservice.repository;
+
+import com.shaffaf.shaffafservice.domain.AbstractAuditingEntity;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Keyset pagination of the audited entities on {@code (createdDate, id)}, alongside the offset pagination of
+ * {@link org.springframework.data.jpa.repository.JpaRepository}.
+ * <p>
+ * Each page is read from the keys of the last entry of the previous page, so the deep pages are as fast as the first
+ * one, and no count query is run. The table of the entity needs the matching composite index, in its changelog:
+ * <pre>{@code
+ * <createIndex indexName="idx_expense__created_date_id" tableName="expense">
+ *     <column name="created_date"/>
+ *     <column name="id"/>
+ * </createIndex>
+ * }</pre>
+ * <p>
+ * The keys are exchanged with the clients in the cursors of {@code KeysetPaginationUtil},
+ * which only carry {@link Long} ids, and the entities need a {@code createdDate}: no page can start after an entity
+ * without one.
+ *
+ * @param <E> the type of the entity.
+ */
+@NoRepositoryBean
+public interface KeysetPaginationRepository<E extends AbstractAuditingEntity<Long>> extends JpaSpecificationExecutor<E> {
+    /**
+     * The order of the pages, on the keys of the position.
+     */
+    Sort KEYSET_SORT = Sort.by("createdDate", "id");
+
+    /**
+     * @param position the position after which the page starts, {@link KeysetScrollPosition#initial()} for the first page.
+     * @param size the maximum number of entries of the page.
+     * @return the page, with the position of its entries.
+     */
+    default Window<E> findAll(KeysetScrollPosition position, int size) {
+        return findAll(Specification.where(null), position, size);
+    }
+
+    /**
+     * @param specification the entries to page through.
+     * @param position the position after which the page starts, {@link KeysetScrollPosition#initial()} for the first page.
+     * @param size the maximum number of entries of the page.
+     * @return the page, with the position of its entries.
+     */
+    default Window<E> findAll(Specification<E> specification, KeysetScrollPosition position, int size) {
+        return findBy(specification, query -> query.sortBy(KEYSET_SORT).limit(size).scroll(position));
+    }
+}
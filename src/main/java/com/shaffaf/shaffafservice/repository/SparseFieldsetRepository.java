@@ -0,0 +1,95 @@
+package com.shaffaf.shaffafservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository reading sparse fieldsets of the entities: only the requested columns are selected, and each entity is
+ * returned as the map of its requested fields, serialized as is in the JSON responses.
+ */
+@Repository
+@Transactional(readOnly = true)
+public class SparseFieldsetRepository {
+
+    private final EntityManager entityManager;
+
+    public SparseFieldsetRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @param entityClass the type of the entity.
+     * @return the fields which can be requested: the basic attributes, not the associations.
+     */
+    public Set<String> getSelectableFields(Class<?> entityClass) {
+        return entityManager
+            .getMetamodel()
+            .entity(entityClass)
+            .getSingularAttributes()
+            .stream()
+            .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+            .map(Attribute::getName)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * @param entityClass the type of the entity.
+     * @param fields the selected fields, among the {@link #getSelectableFields selectable fields}, in their JSON order.
+     * @param specification the filter of the entities, {@code null} for all of them.
+     * @param pageable the requested page.
+     * @param <E> the type of the entity.
+     * @return the requested fields of the entities of the page.
+     */
+    public <E> List<Map<String, Object>> findAll(
+        Class<E> entityClass,
+        Collection<String> fields,
+        Specification<E> specification,
+        Pageable pageable
+    ) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<E> root = query.from(entityClass);
+        query.multiselect(fields.stream().<Selection<?>>map(field -> root.get(field).alias(field)).toList());
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery
+            .getResultList()
+            .stream()
+            .map(tuple -> {
+                Map<String, Object> entity = new LinkedHashMap<>();
+                fields.forEach(field -> entity.put(field, tuple.get(field)));
+                return entity;
+            })
+            .toList();
+    }
+}
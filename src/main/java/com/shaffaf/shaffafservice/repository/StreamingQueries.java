@@ -0,0 +1,26 @@
+package com.shaffaf.shaffafservice.repository;
+
+/**
+ * Hint values of the repository methods returning a {@link java.util.stream.Stream}, such as the exports:
+ * <pre>{@code
+ * @QueryHints(
+ *     {
+ *         @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE),
+ *         @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+ *         @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+ *     }
+ * )
+ * Stream<Expense> streamAllByProjectIdAndCreatedDateBetween(Long projectId, Instant from, Instant to);
+ * }</pre>
+ * The PostgreSQL driver only reads the rows through a server-side cursor, {@value #FETCH_SIZE} at a time, within a
+ * transaction: the stream is read in a read-only transaction.
+ */
+public final class StreamingQueries {
+
+    /**
+     * The number of rows fetched from the cursor at a time.
+     */
+    public static final String FETCH_SIZE = "500";
+
+    private StreamingQueries() {}
+}
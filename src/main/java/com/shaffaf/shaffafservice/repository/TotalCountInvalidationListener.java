@@ -0,0 +1,83 @@
+package com.shaffaf.shaffafservice.repository;
+
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Invalidates the cached counts of the {@link TotalCounter} when an entity with cached counts is created or deleted,
+ * once the transaction is committed, and once per entity type whatever the number of entities written.
+ */
+public class TotalCountInvalidationListener implements PostInsertEventListener, PostDeleteEventListener {
+
+    private final Supplier<TotalCounter> totalCounter;
+
+    /**
+     * @param totalCounter the counter, resolved on the first write as it is created after the Hibernate listeners.
+     */
+    public TotalCountInvalidationListener(Supplier<TotalCounter> totalCounter) {
+        this.totalCounter = totalCounter;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidateAfterCommit(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidateAfterCommit(event.getPersister().getMappedClass());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void invalidateAfterCommit(Class<?> entityClass) {
+        TotalCounter counter = totalCounter.get();
+        if (!counter.hasCachedCounts(entityClass)) {
+            return;
+        }
+        Optional<PendingInvalidations> pendingInvalidations = AfterCommit.findPending(
+            PendingInvalidations.class,
+            invalidations -> invalidations.getListener() == this
+        );
+        if (pendingInvalidations.isPresent()) {
+            pendingInvalidations.get().entityClasses.add(entityClass);
+            return;
+        }
+        PendingInvalidations invalidations = new PendingInvalidations(counter);
+        invalidations.entityClasses.add(entityClass);
+        AfterCommit.run(invalidations);
+    }
+
+    /**
+     * The entity types written by the current transaction, each transaction having its own.
+     */
+    private final class PendingInvalidations implements Runnable {
+
+        private final TotalCounter counter;
+
+        private final Set<Class<?>> entityClasses = new LinkedHashSet<>();
+
+        private PendingInvalidations(TotalCounter counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public void run() {
+            entityClasses.forEach(counter::invalidate);
+        }
+
+        private TotalCountInvalidationListener getListener() {
+            return TotalCountInvalidationListener.this;
+        }
+    }
+}
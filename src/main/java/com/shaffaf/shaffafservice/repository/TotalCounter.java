@@ -0,0 +1,166 @@
+package com.shaffaf.shaffafservice.repository;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Counts the entries of the paginated lists, for the {@code X-Total-Count} header, according to a {@link CountMode}.
+ * <p>
+ * The cached counts are kept in a Hazelcast map per entity type, named {@value #MAP_PREFIX} followed by the entity name,
+ * so that they are shared by the nodes and invalidated on all of them. Only the entities whose default mode is not
+ * {@link CountMode#EXACT} have cached counts, so that the writes to the other entities do not invalidate anything: the
+ * cached counts requested for them are counted exactly instead.
+ */
+public class TotalCounter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TotalCounter.class);
+
+    static final String MAP_PREFIX = "totalCount.";
+
+    private static final String UNSCOPED = "*";
+
+    private static final String ESTIMATE_QUERY = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Duration cachedCountTimeToLive;
+
+    private final CountMode defaultMode;
+
+    private final Map<String, CountMode> modes;
+
+    /**
+     * @param hazelcastInstance the Hazelcast instance keeping the cached counts.
+     * @param jdbcTemplate the template reading the estimated counts.
+     * @param cachedCountTimeToLive the time the cached counts are kept.
+     * @param defaultMode the mode of the entities without their own mode.
+     * @param modes the modes, by entity name.
+     */
+    public TotalCounter(
+        HazelcastInstance hazelcastInstance,
+        JdbcTemplate jdbcTemplate,
+        Duration cachedCountTimeToLive,
+        CountMode defaultMode,
+        Map<String, CountMode> modes
+    ) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cachedCountTimeToLive = cachedCountTimeToLive;
+        this.defaultMode = defaultMode;
+        this.modes = modes;
+    }
+
+    /**
+     * @param entityClass the type of the counted entities.
+     * @return the mode used when the client does not choose one.
+     */
+    public CountMode getDefaultMode(Class<?> entityClass) {
+        return modes.getOrDefault(entityClass.getSimpleName(), defaultMode);
+    }
+
+    /**
+     * @param entityClass the type of the entities.
+     * @return whether the counts of the entities can be cached, and have to be invalidated when one is created or deleted.
+     */
+    public boolean hasCachedCounts(Class<?> entityClass) {
+        return getDefaultMode(entityClass) != CountMode.EXACT;
+    }
+
+    /**
+     * Builds the page without counting when its size tells the total, such as a last page.
+     *
+     * @param mode the count mode.
+     * @param entityClass the type of the counted entities.
+     * @param scope the filter of the counted entities, such as a project id, {@code null} when they are all counted.
+     * @param content the entries of the page.
+     * @param pageable the requested page.
+     * @param exactCount the count query.
+     * @param <T> the type of the entries.
+     * @return the page.
+     */
+    public <T> Page<T> page(CountMode mode, Class<?> entityClass, String scope, List<T> content, Pageable pageable, LongSupplier exactCount) {
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(mode, entityClass, scope, exactCount));
+    }
+
+    /**
+     * Counts the entities. The table estimate only applies to all the entities of a table: the counts of a scope are
+     * cached instead of estimated.
+     *
+     * @param mode the count mode.
+     * @param entityClass the type of the counted entities.
+     * @param scope the filter of the counted entities, such as a project id, {@code null} when they are all counted.
+     * @param exactCount the count query.
+     * @return the number of entities.
+     */
+    public long count(CountMode mode, Class<?> entityClass, String scope, LongSupplier exactCount) {
+        return switch (mode) {
+            case EXACT -> exactCount.getAsLong();
+            case CACHED -> cachedCount(entityClass, scope, exactCount);
+            case ESTIMATED -> scope == null ? estimatedCount(entityClass, exactCount) : cachedCount(entityClass, scope, exactCount);
+        };
+    }
+
+    /**
+     * Removes the cached counts of an entity type, in every scope, as an entity of this type was created or deleted.
+     *
+     * @param entityClass the type of the entity.
+     */
+    public void invalidate(Class<?> entityClass) {
+        cachedCounts(entityClass).clear();
+    }
+
+    private long cachedCount(Class<?> entityClass, String scope, LongSupplier exactCount) {
+        if (!hasCachedCounts(entityClass)) {
+            return exactCount.getAsLong();
+        }
+        IMap<String, Long> cachedCounts = cachedCounts(entityClass);
+        String key = scope == null ? UNSCOPED : scope;
+        Long count = cachedCounts.get(key);
+        if (count == null) {
+            count = exactCount.getAsLong();
+            cachedCounts.set(key, count, cachedCountTimeToLive.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return count;
+    }
+
+    private long estimatedCount(Class<?> entityClass, LongSupplier exactCount) {
+        String table = tableName(entityClass);
+        try {
+            Long estimate = jdbcTemplate.queryForObject(ESTIMATE_QUERY, Long.class, table);
+            // reltuples is -1 until the table is first analyzed
+            if (estimate != null && estimate >= 0) {
+                return estimate;
+            }
+        } catch (DataAccessException e) {
+            LOG.warn("Could not estimate the number of rows of {}: {}", table, e.getMessage());
+        }
+        return exactCount.getAsLong();
+    }
+
+    private IMap<String, Long> cachedCounts(Class<?> entityClass) {
+        return hazelcastInstance.getMap(MAP_PREFIX + entityClass.getSimpleName());
+    }
+
+    static String tableName(Class<?> entityClass) {
+        Table table = entityClass.getAnnotation(Table.class);
+        if (table != null && !table.name().isEmpty()) {
+            return table.name();
+        }
+        return entityClass.getSimpleName().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+}
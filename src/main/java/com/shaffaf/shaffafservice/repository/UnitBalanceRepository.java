@@ -0,0 +1,119 @@
+package com.shaffaf.shaffafservice.repository;
+
+import com.shaffaf.shaffafservice.domain.UnitBalance;
+import com.shaffaf.shaffafservice.domain.VersionedUnitBalance;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository of the {@link UnitBalance}s, in JDBC as the totals are updated in place by the database.
+ */
+@Repository
+public class UnitBalanceRepository {
+
+    private static final String SELECT_SQL = "SELECT unit_id, due_amount, collected_amount, last_modified_date FROM unit_balance";
+
+    private static final String UPSERT_SQL_PREFIX = "INSERT INTO unit_balance (unit_id, due_amount, collected_amount, last_modified_date) VALUES ";
+
+    private static final String UPSERT_SQL_ROW = "(?, ?, ?, clock_timestamp())";
+
+    // Taken once the row is locked, so that it grows with each write to the row, whatever the order of the transactions
+    private static final String LAST_MODIFIED_DATE_SQL =
+        "last_modified_date = GREATEST(clock_timestamp(), unit_balance.last_modified_date + INTERVAL '1 microsecond')";
+
+    private static final String RETURNING_SQL = " RETURNING unit_id, due_amount, collected_amount, last_modified_date";
+
+    private static final String ADD_SQL_SUFFIX =
+        " ON CONFLICT (unit_id) DO UPDATE SET due_amount = unit_balance.due_amount + EXCLUDED.due_amount, " +
+        "collected_amount = unit_balance.collected_amount + EXCLUDED.collected_amount, " +
+        LAST_MODIFIED_DATE_SQL +
+        RETURNING_SQL;
+
+    private static final String SAVE_SQL_SUFFIX =
+        " ON CONFLICT (unit_id) DO UPDATE SET due_amount = EXCLUDED.due_amount, collected_amount = EXCLUDED.collected_amount, " +
+        LAST_MODIFIED_DATE_SQL +
+        RETURNING_SQL;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int batchSize;
+
+    public UnitBalanceRepository(JdbcTemplate jdbcTemplate, @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public Optional<UnitBalance> findById(Long unitId) {
+        return findVersionedById(unitId).map(VersionedUnitBalance::balance);
+    }
+
+    public Optional<VersionedUnitBalance> findVersionedById(Long unitId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE unit_id = ?", UnitBalanceRepository::mapVersionedRow, unitId).stream().findFirst();
+    }
+
+    public List<UnitBalance> findAll() {
+        return jdbcTemplate.query(SELECT_SQL, UnitBalanceRepository::mapRow);
+    }
+
+    /**
+     * Adds amounts to the totals of the units, in the database so that concurrent writers never lose an update: the
+     * row of each unit stays locked until the end of the transaction.
+     *
+     * @param amounts the amounts to add, at most one by unit.
+     * @return the totals written.
+     */
+    public List<VersionedUnitBalance> addAll(Collection<UnitBalance> amounts) {
+        return upsertAll(ADD_SQL_SUFFIX, amounts);
+    }
+
+    /**
+     * @param balances the totals replacing those of the units, at most one by unit.
+     * @return the totals written.
+     */
+    public List<VersionedUnitBalance> saveAll(Collection<UnitBalance> balances) {
+        return upsertAll(SAVE_SQL_SUFFIX, balances);
+    }
+
+    /**
+     * Writes the balances by statements of up to the JDBC batch size, each returning the rows it wrote.
+     */
+    private List<VersionedUnitBalance> upsertAll(String sqlSuffix, Collection<UnitBalance> balances) {
+        List<UnitBalance> rows = List.copyOf(balances);
+        List<VersionedUnitBalance> written = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<UnitBalance> statementRows = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            String sql = UPSERT_SQL_PREFIX + String.join(", ", Collections.nCopies(statementRows.size(), UPSERT_SQL_ROW)) + sqlSuffix;
+            written.addAll(
+                jdbcTemplate.query(
+                    sql,
+                    ps -> {
+                        int index = 1;
+                        for (UnitBalance balance : statementRows) {
+                            ps.setLong(index++, balance.unitId());
+                            ps.setBigDecimal(index++, balance.dueAmount());
+                            ps.setBigDecimal(index++, balance.collectedAmount());
+                        }
+                    },
+                    UnitBalanceRepository::mapVersionedRow
+                )
+            );
+        }
+        return written;
+    }
+
+    private static UnitBalance mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new UnitBalance(rs.getLong("unit_id"), rs.getBigDecimal("due_amount"), rs.getBigDecimal("collected_amount"));
+    }
+
+    private static VersionedUnitBalance mapVersionedRow(ResultSet rs, int rowNum) throws SQLException {
+        return new VersionedUnitBalance(mapRow(rs, rowNum), rs.getTimestamp("last_modified_date").toInstant());
+    }
+}
@@ -0,0 +1,89 @@
+package com.shaffaf.shaffafservice.repository;
+
+import com.shaffaf.shaffafservice.domain.UnitDue;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository writing the {@link UnitDue}s in multi-row inserts, without loading or tracking entities.
+ */
+@Repository
+public class UnitDueJdbcRepository {
+
+    private static final String INSERT_SQL_PREFIX = "INSERT INTO unit_due (unit_id, due_month, amount) VALUES ";
+
+    private static final String INSERT_SQL_ROW = "(?, ?, ?)";
+
+    private static final String INSERT_SQL_SUFFIX = " ON CONFLICT (unit_id, due_month) DO NOTHING RETURNING unit_id, due_month";
+
+    private static final String SUM_BY_UNIT_SQL = "SELECT unit_id, SUM(amount) AS amount FROM unit_due GROUP BY unit_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int batchSize;
+
+    public UnitDueJdbcRepository(JdbcTemplate jdbcTemplate, @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:25}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inserts the dues which do not exist yet, for their unit and month, by statements of up to the JDBC batch size.
+     * <p>
+     * The created dues are told apart by the keys returned by each statement, which do not depend on the update counts
+     * reported by the driver, such as when it rewrites the batched inserts.
+     *
+     * @param unitDues the dues.
+     * @return the inserted dues, the others already existed.
+     */
+    public List<UnitDue> insertMissing(List<UnitDue> unitDues) {
+        List<UnitDue> inserted = new ArrayList<>();
+        for (int from = 0; from < unitDues.size(); from += batchSize) {
+            inserted.addAll(insertMissingRows(unitDues.subList(from, Math.min(from + batchSize, unitDues.size()))));
+        }
+        return inserted;
+    }
+
+    private List<UnitDue> insertMissingRows(List<UnitDue> unitDues) {
+        Map<UnitDueKey, UnitDue> unitDuesByKey = new HashMap<>();
+        for (UnitDue unitDue : unitDues) {
+            unitDuesByKey.put(new UnitDueKey(unitDue.unitId(), unitDue.month()), unitDue);
+        }
+        String sql = INSERT_SQL_PREFIX + String.join(", ", Collections.nCopies(unitDues.size(), INSERT_SQL_ROW)) + INSERT_SQL_SUFFIX;
+        return jdbcTemplate.query(
+            sql,
+            ps -> {
+                int index = 1;
+                for (UnitDue unitDue : unitDues) {
+                    ps.setLong(index++, unitDue.unitId());
+                    ps.setDate(index++, Date.valueOf(unitDue.month().atDay(1)));
+                    ps.setBigDecimal(index++, unitDue.amount());
+                }
+            },
+            (rs, rowNum) ->
+                unitDuesByKey.get(new UnitDueKey(rs.getLong("unit_id"), YearMonth.from(rs.getDate("due_month").toLocalDate())))
+        );
+    }
+
+    /**
+     * @return the total of the dues of each unit, by unit id.
+     */
+    public Map<Long, BigDecimal> sumAmountsByUnit() {
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        jdbcTemplate.query(SUM_BY_UNIT_SQL, rs -> {
+            amounts.put(rs.getLong("unit_id"), rs.getBigDecimal("amount"));
+        });
+        return amounts;
+    }
+
+    private record UnitDueKey(Long unitId, YearMonth month) {}
+}
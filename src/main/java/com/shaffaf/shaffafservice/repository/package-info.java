@@ -0,0 +1,9 @@
+/**
+ * Repository layer.
+ * <p>
+ * The deep access paths, such as a block with its units and their residents, are read with an
+ * {@link org.springframework.data.jpa.repository.EntityGraph} naming the fetched associations, and the other lazy
+ * associations are fetched in batches of {@code hibernate.default_batch_fetch_size}. The integration tests of the REST
+ * calls walking them are annotated with the maximum number of SQL statements they run.
+ */
+package com.shaffaf.shaffafservice.repository;
@@ -0,0 +1,118 @@
+package com.shaffaf.shaffafservice.security;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Immutable set of the authorities granted to a user, built once at authentication time.
+ * <p>
+ * The authorities of {@link AuthoritiesConstants} are kept in a bitset, so that checking them does not allocate.
+ * The sets holding only such authorities are interned.
+ */
+public final class AuthoritySet implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int ADMIN_BIT = 1;
+
+    private static final int USER_BIT = 1 << 1;
+
+    private static final int ANONYMOUS_BIT = 1 << 2;
+
+    private static final AuthoritySet[] INTERNED = new AuthoritySet[1 << 3];
+
+    static {
+        for (int bits = 0; bits < INTERNED.length; bits++) {
+            INTERNED[bits] = new AuthoritySet(bits, Set.of());
+        }
+    }
+
+    private final int bits;
+
+    private final Set<String> otherAuthorities;
+
+    private AuthoritySet(int bits, Set<String> otherAuthorities) {
+        this.bits = bits;
+        this.otherAuthorities = otherAuthorities;
+    }
+
+    /**
+     * Build the set of the given authorities.
+     *
+     * @param authorities the granted authorities.
+     * @return the set of the authorities, interned when it only holds authorities of {@link AuthoritiesConstants}.
+     */
+    public static AuthoritySet of(Collection<? extends GrantedAuthority> authorities) {
+        int bits = 0;
+        Set<String> otherAuthorities = null;
+        for (GrantedAuthority grantedAuthority : authorities) {
+            String authority = grantedAuthority.getAuthority();
+            int bit = bitOf(authority);
+            if (bit != 0) {
+                bits |= bit;
+            } else if (authority != null) {
+                if (otherAuthorities == null) {
+                    otherAuthorities = new HashSet<>();
+                }
+                otherAuthorities.add(authority);
+            }
+        }
+        return otherAuthorities == null ? INTERNED[bits] : new AuthoritySet(bits, Set.copyOf(otherAuthorities));
+    }
+
+    /**
+     * Checks if the set holds the authority.
+     *
+     * @param authority the authority to check.
+     * @return true if the set holds the authority, false otherwise.
+     */
+    public boolean contains(String authority) {
+        int bit = bitOf(authority);
+        if (bit != 0) {
+            return (bits & bit) != 0;
+        }
+        return authority != null && !otherAuthorities.isEmpty() && otherAuthorities.contains(authority);
+    }
+
+    /**
+     * Checks if the set holds any of the authorities.
+     *
+     * @param authorities the authorities to check.
+     * @return true if the set holds any of the authorities, false otherwise.
+     */
+    public boolean containsAny(String... authorities) {
+        for (String authority : authorities) {
+            if (contains(authority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int bitOf(String authority) {
+        if (authority == null) {
+            return 0;
+        }
+        return switch (authority) {
+            case AuthoritiesConstants.ADMIN -> ADMIN_BIT;
+            case AuthoritiesConstants.USER -> USER_BIT;
+            case AuthoritiesConstants.ANONYMOUS -> ANONYMOUS_BIT;
+            default -> 0;
+        };
+    }
+
+    @Serial
+    private Object readResolve() {
+        return otherAuthorities.isEmpty() ? INTERNED[bits] : this;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthoritySet{bits=" + bits + ", otherAuthorities=" + otherAuthorities + "}";
+    }
+}
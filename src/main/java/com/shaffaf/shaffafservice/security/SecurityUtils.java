@@ -1,8 +1,7 @@
 package com.shaffaf.shaffafservice.security;
 
-import java.util.Arrays;
+import com.shaffaf.shaffafservice.security.jwt.AuthoritySetJwtAuthenticationToken;
 import java.util.Optional;
-import java.util.stream.Stream;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
@@ -64,7 +63,7 @@ public final class SecurityUtils {
      */
     public static boolean isAuthenticated() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication != null && getAuthorities(authentication).noneMatch(AuthoritiesConstants.ANONYMOUS::equals);
+        return authentication != null && !hasAuthority(authentication, AuthoritiesConstants.ANONYMOUS);
     }
 
     /**
@@ -75,9 +74,18 @@ public final class SecurityUtils {
      */
     public static boolean hasCurrentUserAnyOfAuthorities(String... authorities) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return (
-            authentication != null && getAuthorities(authentication).anyMatch(authority -> Arrays.asList(authorities).contains(authority))
-        );
+        if (authentication == null) {
+            return false;
+        }
+        if (authentication instanceof AuthoritySetJwtAuthenticationToken token) {
+            return token.getAuthoritySet().containsAny(authorities);
+        }
+        for (String authority : authorities) {
+            if (hasAuthority(authentication, authority)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -97,10 +105,19 @@ public final class SecurityUtils {
      * @return true if the current user has the authority, false otherwise.
      */
     public static boolean hasCurrentUserThisAuthority(String authority) {
-        return hasCurrentUserAnyOfAuthorities(authority);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && hasAuthority(authentication, authority);
     }
 
-    private static Stream<String> getAuthorities(Authentication authentication) {
-        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority);
+    private static boolean hasAuthority(Authentication authentication, String authority) {
+        if (authentication instanceof AuthoritySetJwtAuthenticationToken token) {
+            return token.getAuthoritySet().contains(authority);
+        }
+        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
+            if (authority != null && authority.equals(grantedAuthority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,37 @@
+package com.shaffaf.shaffafservice.security.jwt;
+
+import java.util.Collection;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+
+/**
+ * Converter of a {@link Jwt} into an {@link AuthoritySetJwtAuthenticationToken}, so that the authorities claim is
+ * converted once at authentication time.
+ */
+public class AuthoritySetJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final Converter<Jwt, Collection<GrantedAuthority>> jwtGrantedAuthoritiesConverter;
+
+    private final String principalClaimName;
+
+    public AuthoritySetJwtAuthenticationConverter(Converter<Jwt, Collection<GrantedAuthority>> jwtGrantedAuthoritiesConverter) {
+        this(jwtGrantedAuthoritiesConverter, JwtClaimNames.SUB);
+    }
+
+    public AuthoritySetJwtAuthenticationConverter(
+        Converter<Jwt, Collection<GrantedAuthority>> jwtGrantedAuthoritiesConverter,
+        String principalClaimName
+    ) {
+        this.jwtGrantedAuthoritiesConverter = jwtGrantedAuthoritiesConverter;
+        this.principalClaimName = principalClaimName;
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        Collection<GrantedAuthority> authorities = jwtGrantedAuthoritiesConverter.convert(jwt);
+        return new AuthoritySetJwtAuthenticationToken(jwt, authorities, jwt.getClaimAsString(principalClaimName));
+    }
+}
@@ -0,0 +1,28 @@
+package com.shaffaf.shaffafservice.security.jwt;
+
+import com.shaffaf.shaffafservice.security.AuthoritySet;
+import java.io.Serial;
+import java.util.Collection;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * {@link JwtAuthenticationToken} carrying the {@link AuthoritySet} of its authorities.
+ */
+public class AuthoritySetJwtAuthenticationToken extends JwtAuthenticationToken {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final AuthoritySet authoritySet;
+
+    public AuthoritySetJwtAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities, String name) {
+        super(jwt, authorities, name);
+        this.authoritySet = AuthoritySet.of(authorities);
+    }
+
+    public AuthoritySet getAuthoritySet() {
+        return authoritySet;
+    }
+}
@@ -0,0 +1,136 @@
+package com.shaffaf.shaffafservice.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.shaffaf.shaffafservice.management.JwtDecodeOutcome;
+import com.shaffaf.shaffafservice.management.SecurityMetersService;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} keeping the tokens already verified by a delegate decoder in a bounded cache.
+ * <p>
+ * Entries are keyed by a SHA-256 digest of the token, so that raw tokens are not kept in memory, and expire at the
+ * {@code exp} claim of their token at the latest. Tokens without an expiration are never cached, and failed decodings
+ * always go to the delegate. The cache hits are timed under the {@link JwtDecodeOutcome#CACHED} outcome of the token
+ * decode timer, so that it reports the cost of every authentication.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final JwtDecoder delegate;
+
+    private final SecurityMetersService metersService;
+
+    private final Clock clock;
+
+    private final Cache<ByteBuffer, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, SecurityMetersService metersService, long maxSize, Duration timeToLive) {
+        this(delegate, metersService, maxSize, timeToLive, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    CachingJwtDecoder(
+        JwtDecoder delegate,
+        SecurityMetersService metersService,
+        long maxSize,
+        Duration timeToLive,
+        Clock clock,
+        Ticker ticker
+    ) {
+        this.delegate = delegate;
+        this.metersService = metersService;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new TokenExpiry(timeToLive))
+            .ticker(ticker)
+            .executor(Runnable::run)
+            .evictionListener((ByteBuffer key, Jwt jwt, RemovalCause cause) -> trackEviction(cause))
+            .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = System.nanoTime();
+        ByteBuffer key = digest(token);
+        Jwt jwt = cache.getIfPresent(key);
+        if (jwt != null) {
+            metersService.trackJwtCacheHit();
+            // The misses are timed by the delegate
+            metersService.trackTokenDecode(JwtDecodeOutcome.CACHED, System.nanoTime() - start);
+            return jwt;
+        }
+        metersService.trackJwtCacheMiss();
+        jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(clock.instant())) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private void trackEviction(RemovalCause cause) {
+        if (cause == RemovalCause.SIZE) {
+            metersService.trackJwtCacheSizeEviction();
+        } else if (cause == RemovalCause.EXPIRED) {
+            metersService.trackJwtCacheExpiredEviction();
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    /**
+     * Expires each entry at the expiration of its token, or after the configured time to live if it comes first.
+     */
+    private final class TokenExpiry implements Expiry<ByteBuffer, Jwt> {
+
+        private final Duration timeToLive;
+
+        private TokenExpiry(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            Duration untilExpiration = expiresAt == null ? Duration.ZERO : Duration.between(clock.instant(), expiresAt);
+            if (untilExpiration.isNegative()) {
+                return 0;
+            }
+            return untilExpiration.compareTo(timeToLive) < 0 ? untilExpiration.toNanos() : timeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.shaffaf.shaffafservice.security.jwt;
+
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
+import com.shaffaf.shaffafservice.management.JwtDecodeOutcome;
+import java.text.ParseException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+/**
+ * Classifies the decoding failures of the {@link org.springframework.security.oauth2.jwt.NimbusJwtDecoder} into the
+ * {@link JwtDecodeOutcome}s reported in the security meters.
+ */
+public final class JwtFailureClassifier {
+
+    private JwtFailureClassifier() {}
+
+    /**
+     * Classifies a decoding failure of the {@link org.springframework.security.oauth2.jwt.NimbusJwtDecoder} from the
+     * exception types and the validation error codes, without looking at the exception messages.
+     *
+     * @param e the exception thrown by the decoder.
+     * @return the outcome matching the failure, {@link JwtDecodeOutcome#UNKNOWN} when it cannot be classified.
+     */
+    public static JwtDecodeOutcome classify(Throwable e) {
+        if (e instanceof JwtValidationException validationException) {
+            for (OAuth2Error error : validationException.getErrors()) {
+                if (TypedJwtValidator.EXPIRED_ERROR_CODE.equals(error.getErrorCode())) {
+                    return JwtDecodeOutcome.EXPIRED;
+                }
+            }
+            return JwtDecodeOutcome.INVALID_CLAIMS;
+        }
+        if (e instanceof BadJwtException) {
+            Throwable cause = e.getCause();
+            if (cause == null) {
+                // Unsecured (plain) tokens are rejected without a cause
+                return JwtDecodeOutcome.UNSUPPORTED;
+            }
+            if (cause instanceof BadJWSException) {
+                return JwtDecodeOutcome.INVALID_SIGNATURE;
+            }
+            if (cause instanceof ParseException || cause.getCause() instanceof ParseException) {
+                return JwtDecodeOutcome.MALFORMED;
+            }
+            if (cause instanceof BadJOSEException) {
+                return JwtDecodeOutcome.UNSUPPORTED;
+            }
+        }
+        return JwtDecodeOutcome.UNKNOWN;
+    }
+}
@@ -0,0 +1,48 @@
+package com.shaffaf.shaffafservice.security.jwt;
+
+import com.shaffaf.shaffafservice.management.JwtDecodeOutcome;
+import com.shaffaf.shaffafservice.management.SecurityMetersService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} recording the decoding latency of a delegate decoder, and counting its failures by cause.
+ */
+public class MeteredJwtDecoder implements JwtDecoder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MeteredJwtDecoder.class);
+
+    private final JwtDecoder delegate;
+
+    private final SecurityMetersService metersService;
+
+    public MeteredJwtDecoder(JwtDecoder delegate, SecurityMetersService metersService) {
+        this.delegate = delegate;
+        this.metersService = metersService;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = System.nanoTime();
+        try {
+            Jwt jwt = delegate.decode(token);
+            metersService.trackTokenDecode(JwtDecodeOutcome.SUCCESS, System.nanoTime() - start);
+            return jwt;
+        } catch (RuntimeException e) {
+            JwtDecodeOutcome outcome = JwtFailureClassifier.classify(e);
+            metersService.trackTokenDecode(outcome, System.nanoTime() - start);
+            switch (outcome) {
+                case INVALID_SIGNATURE -> metersService.trackTokenInvalidSignature();
+                case EXPIRED -> metersService.trackTokenExpired();
+                case MALFORMED -> metersService.trackTokenMalformed();
+                case UNSUPPORTED -> metersService.trackTokenUnsupported();
+                case INVALID_CLAIMS -> LOG.debug("Invalid JWT claims {}", e.getMessage());
+                default -> LOG.error("Unknown JWT error {}", e.getMessage());
+            }
+            throw e;
+        }
+    }
+}
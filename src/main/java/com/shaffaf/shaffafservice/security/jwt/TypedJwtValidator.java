@@ -0,0 +1,56 @@
+package com.shaffaf.shaffafservice.security.jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+
+/**
+ * {@link OAuth2TokenValidator} decorating a delegate validator so that expired tokens are reported with the dedicated
+ * {@link #EXPIRED_ERROR_CODE} error code, and can be told apart from other validation failures without parsing the
+ * error descriptions.
+ * <p>
+ * The expiration uses the same clock skew as the {@link JwtTimestampValidator} of the default validators.
+ */
+public class TypedJwtValidator implements OAuth2TokenValidator<Jwt> {
+
+    public static final String EXPIRED_ERROR_CODE = "expired_token";
+
+    private static final Duration DEFAULT_MAX_CLOCK_SKEW = Duration.ofSeconds(60);
+
+    private final OAuth2TokenValidator<Jwt> delegate;
+
+    private final Clock clock;
+
+    public TypedJwtValidator(OAuth2TokenValidator<Jwt> delegate) {
+        this(delegate, Clock.systemUTC());
+    }
+
+    TypedJwtValidator(OAuth2TokenValidator<Jwt> delegate, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        OAuth2TokenValidatorResult result = delegate.validate(jwt);
+        if (!result.hasErrors() || !isExpired(jwt)) {
+            return result;
+        }
+        List<OAuth2Error> errors = new ArrayList<>(result.getErrors().size() + 1);
+        errors.add(new OAuth2Error(EXPIRED_ERROR_CODE, "Jwt expired at " + jwt.getExpiresAt(), null));
+        errors.addAll(result.getErrors());
+        return OAuth2TokenValidatorResult.failure(errors);
+    }
+
+    private boolean isExpired(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        return expiresAt != null && Instant.now(clock).minus(DEFAULT_MAX_CLOCK_SKEW).isAfter(expiresAt);
+    }
+}
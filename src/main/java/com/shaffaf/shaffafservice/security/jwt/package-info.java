@@ -0,0 +1,4 @@
+/**
+ * JWT decoding support.
+ */
+package com.shaffaf.shaffafservice.security.jwt;
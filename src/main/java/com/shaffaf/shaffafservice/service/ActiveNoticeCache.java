@@ -0,0 +1,171 @@
+package com.shaffaf.shaffafservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.shaffaf.shaffafservice.repository.AfterCommit;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Service caching the notices displayed now in each project, serialized once as the JSON served to the resident
+ * applications.
+ * <p>
+ * Each member keeps the notices of a project, loaded with the {@link NoticeLoader} on first use, along with the JSON of
+ * those displayed now. A timer serializes the displayed notices again at the next start or end of a display window,
+ * on the application {@link TaskScheduler}, so the cached JSON has no time to live: it is only dropped, by every member
+ * of the cluster, when {@link #invalidate} is called by the transaction writing a notice of the project, once
+ * committed.
+ */
+@Service
+public class ActiveNoticeCache implements DisposableBean {
+
+    public static final String INVALIDATION_TOPIC_NAME = "activeNoticeInvalidation";
+
+    private final ObjectProvider<NoticeLoader> noticeLoader;
+
+    private final ObjectMapper objectMapper;
+
+    private final ITopic<Long> invalidationTopic;
+
+    private final UUID invalidationListenerId;
+
+    private final TaskScheduler scheduler;
+
+    private final Map<Long, ProjectNotices> projects = new ConcurrentHashMap<>();
+
+    public ActiveNoticeCache(
+        ObjectProvider<NoticeLoader> noticeLoader,
+        ObjectMapper objectMapper,
+        HazelcastInstance hazelcastInstance,
+        TaskScheduler scheduler
+    ) {
+        this.noticeLoader = noticeLoader;
+        this.objectMapper = objectMapper;
+        this.scheduler = scheduler;
+        this.invalidationTopic = hazelcastInstance.getTopic(INVALIDATION_TOPIC_NAME);
+        this.invalidationListenerId = invalidationTopic.addMessageListener(message -> evict(message.getMessageObject()));
+    }
+
+    /**
+     * @param projectId the id of the project.
+     * @return the JSON array of the notices of the project displayed now.
+     */
+    public CachedJson getActiveNotices(Long projectId) {
+        ProjectNotices notices = projects.computeIfAbsent(projectId, this::load);
+        Instant now = Instant.now();
+        if (notices.validUntil != null && !now.isBefore(notices.validUntil)) {
+            // The timer is late
+            notices.flip(now);
+        }
+        return notices.active;
+    }
+
+    /**
+     * Drops the notices of the project on every member, once the current transaction is committed.
+     *
+     * @param projectId the id of the project whose notices were written.
+     */
+    public void invalidate(Long projectId) {
+        AfterCommit.run(() -> invalidationTopic.publish(projectId));
+    }
+
+    private ProjectNotices load(Long projectId) {
+        NoticeLoader loader = noticeLoader.getIfAvailable();
+        if (loader == null) {
+            throw new IllegalStateException("No NoticeLoader is defined, the notices cannot be resolved");
+        }
+        ProjectNotices notices = new ProjectNotices(loader.findByProjectId(projectId));
+        notices.flip(Instant.now());
+        return notices;
+    }
+
+    private void evict(Long projectId) {
+        // Waits for the notices being loaded, so notices read before the commit are dropped too
+        ProjectNotices notices = projects.remove(projectId);
+        if (notices != null) {
+            notices.cancel();
+        }
+    }
+
+    private byte[] serialize(List<Object> notices) {
+        try {
+            return objectMapper.writeValueAsBytes(notices);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the notices", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        invalidationTopic.removeMessageListener(invalidationListenerId);
+        projects.values().forEach(ProjectNotices::cancel);
+    }
+
+    private final class ProjectNotices {
+
+        private final List<NoticeWindow> windows;
+
+        private volatile CachedJson active;
+
+        private volatile Instant validUntil;
+
+        private ScheduledFuture<?> nextFlip;
+
+        private boolean cancelled;
+
+        private ProjectNotices(List<NoticeWindow> windows) {
+            this.windows = List.copyOf(windows);
+        }
+
+        /**
+         * Serializes the notices displayed at the instant, and schedules the next flip at the following window boundary
+         * unless the notices were evicted, as a reader may still hold them.
+         */
+        private synchronized void flip(Instant now) {
+            if (validUntil != null && now.isBefore(validUntil)) {
+                // Already flipped by the timer or a reader
+                return;
+            }
+            byte[] body = serialize(windows.stream().filter(window -> window.isDisplayedAt(now)).map(NoticeWindow::notice).toList());
+            active = new CachedJson(body, '"' + DigestUtils.md5DigestAsHex(body) + '"');
+            Instant boundary = nextBoundary(now);
+            validUntil = boundary;
+            if (boundary != null && !cancelled) {
+                nextFlip = scheduler.schedule(() -> flip(boundary), boundary);
+            }
+        }
+
+        private Instant nextBoundary(Instant now) {
+            Instant next = null;
+            for (NoticeWindow window : windows) {
+                for (Instant boundary : new Instant[] {
+                    window.displayStartDate(),
+                    window.displayEndDate() == null ? null : window.displayEndDate().plusNanos(1),
+                }) {
+                    if (boundary != null && boundary.isAfter(now) && (next == null || boundary.isBefore(next))) {
+                        next = boundary;
+                    }
+                }
+            }
+            return next;
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            if (nextFlip != null) {
+                nextFlip.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.shaffaf.shaffafservice.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The units and fees needed to compute the dues of a block for a month, loaded at once.
+ *
+ * @param blockId the id of the block.
+ * @param projectId the id of the project of the block, whose discounts are resolved by the {@link ProjectDiscountIndex}.
+ * @param units the units of the block.
+ * @param fees the recurring fees of the block for the month.
+ */
+public record BlockDuesInput(Long blockId, Long projectId, List<Unit> units, List<Fee> fees) {
+    /**
+     * @param unitId the id of the unit.
+     * @param unitTypeId the id of the type of the unit.
+     */
+    public record Unit(Long unitId, Long unitTypeId) {}
+
+    /**
+     * @param unitTypeId the id of the type of the charged units, {@code null} for all of them.
+     * @param amount the monthly amount.
+     */
+    public record Fee(Long unitTypeId, BigDecimal amount) {}
+}
@@ -0,0 +1,9 @@
+package com.shaffaf.shaffafservice.service;
+
+/**
+ * A response body serialized once and served as is, with the entity tag of its content.
+ *
+ * @param body the JSON body.
+ * @param eTag the strong entity tag of the body, quoted.
+ */
+public record CachedJson(byte[] body, String eTag) {}
@@ -0,0 +1,64 @@
+package com.shaffaf.shaffafservice.service;
+
+import com.shaffaf.shaffafservice.domain.UnitDue;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the dues of the units of a block in memory.
+ */
+public final class DuesCalculator {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private DuesCalculator() {}
+
+    /**
+     * The dues of a unit are the fees charged to its type or to all types, minus the percentage discounts, then minus
+     * the fixed discounts, never below zero.
+     *
+     * @param input the units and fees of the block.
+     * @param discounts the discounts of the project active during the month.
+     * @param month the month of the dues.
+     * @return the dues of the units of the block.
+     */
+    public static List<UnitDue> calculate(BlockDuesInput input, List<ProjectDiscountWindow> discounts, YearMonth month) {
+        Map<Long, BigDecimal> amountsByUnitType = new HashMap<>();
+        return input
+            .units()
+            .stream()
+            .map(unit ->
+                new UnitDue(
+                    unit.unitId(),
+                    month,
+                    amountsByUnitType.computeIfAbsent(unit.unitTypeId(), unitTypeId -> amount(input, discounts, unitTypeId))
+                )
+            )
+            .toList();
+    }
+
+    private static BigDecimal amount(BlockDuesInput input, List<ProjectDiscountWindow> discounts, Long unitTypeId) {
+        BigDecimal fees = input
+            .fees()
+            .stream()
+            .filter(fee -> fee.unitTypeId() == null || fee.unitTypeId().equals(unitTypeId))
+            .map(BlockDuesInput.Fee::amount)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal amount = fees;
+        for (ProjectDiscountWindow discount : discounts) {
+            if (discount.percentage() != null) {
+                amount = amount.subtract(fees.multiply(discount.percentage()).divide(HUNDRED));
+            }
+        }
+        for (ProjectDiscountWindow discount : discounts) {
+            if (discount.amount() != null) {
+                amount = amount.subtract(discount.amount());
+            }
+        }
+        return amount.max(BigDecimal.ZERO).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,24 @@
+package com.shaffaf.shaffafservice.service;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Outcome of a run of the dues generation.
+ *
+ * @param month the month of the dues.
+ * @param partitions the number of blocks.
+ * @param failedBlockIds the ids of the blocks whose dues were not generated, to run again.
+ * @param dues the number of dues computed.
+ * @param createdDues the number of dues created, the others already existed.
+ * @param duration the duration of the run.
+ */
+public record DuesGenerationResult(
+    YearMonth month,
+    int partitions,
+    List<Long> failedBlockIds,
+    long dues,
+    long createdDues,
+    Duration duration
+) {}
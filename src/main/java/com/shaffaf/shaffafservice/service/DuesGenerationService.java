@@ -0,0 +1,183 @@
+package com.shaffaf.shaffafservice.service;
+
+import com.shaffaf.shaffafservice.config.ApplicationProperties;
+import com.shaffaf.shaffafservice.domain.UnitDue;
+import com.shaffaf.shaffafservice.management.DuesGenerationMeters;
+import com.shaffaf.shaffafservice.repository.UnitDueJdbcRepository;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service generating the monthly dues of the units.
+ * <p>
+ * The work is partitioned by block: each block is loaded with the {@link DuesInputLoader}, its discounts resolved by
+ * the {@link ProjectDiscountIndex} over the month, in UTC, then its dues are computed in memory by the
+ * {@link DuesCalculator} and written in JDBC batches, along with the {@link UnitBalanceService balances} of its units,
+ * in its own transaction, on a pool of {@code application.dues.parallelism} threads. A failed block does not roll back
+ * the others, and as the dues of an existing (unit, month) are left as they are, the generation can be run again for
+ * the same month.
+ */
+@Service
+public class DuesGenerationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DuesGenerationService.class);
+
+    private final ObjectProvider<DuesInputLoader> duesInputLoader;
+
+    private final UnitDueJdbcRepository unitDueJdbcRepository;
+
+    private final UnitBalanceService unitBalanceService;
+
+    private final ProjectDiscountIndex projectDiscountIndex;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final DuesGenerationMeters duesGenerationMeters;
+
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DuesGenerationService(
+        ObjectProvider<DuesInputLoader> duesInputLoader,
+        UnitDueJdbcRepository unitDueJdbcRepository,
+        UnitBalanceService unitBalanceService,
+        ProjectDiscountIndex projectDiscountIndex,
+        PlatformTransactionManager transactionManager,
+        DuesGenerationMeters duesGenerationMeters,
+        ApplicationProperties applicationProperties
+    ) {
+        this.duesInputLoader = duesInputLoader;
+        this.unitDueJdbcRepository = unitDueJdbcRepository;
+        this.unitBalanceService = unitBalanceService;
+        this.projectDiscountIndex = projectDiscountIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.duesGenerationMeters = duesGenerationMeters;
+        this.parallelism = applicationProperties.getDues().getParallelism();
+    }
+
+    /**
+     * Generates the dues of the current month, on the {@code application.dues.cron} schedule.
+     */
+    @Scheduled(cron = "${application.dues.cron:-}")
+    public void generateCurrentMonth() {
+        generate(YearMonth.now());
+    }
+
+    /**
+     * @param month the month of the dues.
+     * @return the outcome of the run.
+     * @throws IllegalStateException if no {@link DuesInputLoader} is defined, or if a run is already in progress.
+     */
+    public DuesGenerationResult generate(YearMonth month) {
+        DuesInputLoader loader = duesInputLoader.getIfAvailable();
+        if (loader == null) {
+            throw new IllegalStateException("No DuesInputLoader is defined, the dues cannot be generated");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("The dues generation is already running");
+        }
+        try {
+            return generate(loader, month);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private DuesGenerationResult generate(DuesInputLoader loader, YearMonth month) {
+        long start = System.nanoTime();
+        List<Long> blockIds = loader.findBlockIds(month);
+        LOG.info("Generating the dues of {} for {} blocks", month, blockIds.size());
+        duesGenerationMeters.trackRunStarted(blockIds.size());
+
+        AtomicLong dues = new AtomicLong();
+        AtomicLong createdDues = new AtomicLong();
+        Set<Long> failures = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(parallelism, blockIds.size())),
+            new CustomizableThreadFactory("dues-generation-")
+        );
+        try {
+            CompletableFuture.allOf(
+                blockIds
+                    .stream()
+                    .map(blockId ->
+                        CompletableFuture.runAsync(
+                            () -> {
+                                long partitionStart = System.nanoTime();
+                                try {
+                                    long[] counts = generateBlock(loader, blockId, month);
+                                    dues.addAndGet(counts[0]);
+                                    createdDues.addAndGet(counts[1]);
+                                    duesGenerationMeters.trackPartitionSuccess(counts[0], counts[1], System.nanoTime() - partitionStart);
+                                } catch (RuntimeException e) {
+                                    failures.add(blockId);
+                                    duesGenerationMeters.trackPartitionFailure(System.nanoTime() - partitionStart);
+                                    LOG.error("Could not generate the dues of {} for block {}", month, blockId, e);
+                                }
+                            },
+                            executor
+                        )
+                    )
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Long> failedBlockIds = blockIds.stream().filter(failures::contains).toList();
+        DuesGenerationResult result = new DuesGenerationResult(
+            month,
+            blockIds.size(),
+            failedBlockIds,
+            dues.get(),
+            createdDues.get(),
+            Duration.ofNanos(System.nanoTime() - start)
+        );
+        LOG.info(
+            "Generated the dues of {}: {} created, {} already existing, {} failed blocks, in {} ms",
+            month,
+            result.createdDues(),
+            result.dues() - result.createdDues(),
+            failedBlockIds.size(),
+            result.duration().toMillis()
+        );
+        return result;
+    }
+
+    /**
+     * @return the number of dues computed and the number of dues created.
+     */
+    private long[] generateBlock(DuesInputLoader loader, Long blockId, YearMonth month) {
+        return transactionTemplate.execute(status -> {
+            BlockDuesInput input = loader.loadBlock(blockId, month);
+            List<ProjectDiscountWindow> discounts = projectDiscountIndex.findOverlapping(
+                input.projectId(),
+                month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant(),
+                month.atEndOfMonth().atTime(LocalTime.MAX).toInstant(ZoneOffset.UTC)
+            );
+            List<UnitDue> unitDues = DuesCalculator.calculate(input, discounts, month);
+            List<UnitDue> created = unitDues.isEmpty() ? List.of() : unitDueJdbcRepository.insertMissing(unitDues);
+            unitBalanceService.recordDues(created);
+            return new long[] { unitDues.size(), created.size() };
+        });
+    }
+}
@@ -0,0 +1,25 @@
+package com.shaffaf.shaffafservice.service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Loads the inputs of the dues generation, a block at a time, with a few set-based queries rather than a query per
+ * unit.
+ */
+public interface DuesInputLoader {
+    /**
+     * @param month the month of the dues.
+     * @return the ids of the blocks whose units owe dues for the month.
+     */
+    List<Long> findBlockIds(YearMonth month);
+
+    /**
+     * Called inside the read-write transaction of the block.
+     *
+     * @param blockId the id of the block.
+     * @param month the month of the dues.
+     * @return the project, units and fees of the block for the month.
+     */
+    BlockDuesInput loadBlock(Long blockId, YearMonth month);
+}
@@ -0,0 +1,35 @@
+package com.shaffaf.shaffafservice.service;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formats of the {@link StreamingExporter}.
+ */
+public enum ExportFormat {
+    /**
+     * Comma-separated values, with a header line, as described by RFC 4180.
+     */
+    CSV(new MediaType("text", "csv"), "csv"),
+
+    /**
+     * Newline-delimited JSON, one object per line.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+
+    private final String fileExtension;
+
+    ExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
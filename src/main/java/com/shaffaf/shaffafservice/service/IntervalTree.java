@@ -0,0 +1,108 @@
+package com.shaffaf.shaffafservice.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable index of items valid over closed time intervals, answering which of them are active at an instant or
+ * overlap a period in {@code O(log n + k)}, for {@code n} items and {@code k} results.
+ * <p>
+ * The items are sorted by start, and the sorted array is read as a balanced binary search tree whose nodes also hold
+ * the latest end of their subtree, so that the subtrees ending before the period are skipped.
+ *
+ * @param <T> the type of the items.
+ */
+public final class IntervalTree<T> {
+
+    private final List<T> items;
+
+    private final Instant[] starts;
+
+    private final Instant[] ends;
+
+    private final Instant[] maxEnds;
+
+    /**
+     * @param items the items.
+     * @param start the start of the interval of an item.
+     * @param end the end of the interval of an item, included, {@code null} when it never ends.
+     */
+    public IntervalTree(Collection<T> items, Function<T, Instant> start, Function<T, Instant> end) {
+        this.items = items.stream().sorted(Comparator.comparing(start)).toList();
+        int size = this.items.size();
+        this.starts = new Instant[size];
+        this.ends = new Instant[size];
+        this.maxEnds = new Instant[size];
+        for (int i = 0; i < size; i++) {
+            T item = this.items.get(i);
+            starts[i] = start.apply(item);
+            Instant itemEnd = end.apply(item);
+            ends[i] = itemEnd == null ? Instant.MAX : itemEnd;
+        }
+        computeMaxEnds(0, size);
+    }
+
+    private Instant computeMaxEnds(int from, int to) {
+        if (from >= to) {
+            return Instant.MIN;
+        }
+        int mid = (from + to) >>> 1;
+        Instant maxEnd = ends[mid];
+        Instant left = computeMaxEnds(from, mid);
+        Instant right = computeMaxEnds(mid + 1, to);
+        if (left.isAfter(maxEnd)) {
+            maxEnd = left;
+        }
+        if (right.isAfter(maxEnd)) {
+            maxEnd = right;
+        }
+        maxEnds[mid] = maxEnd;
+        return maxEnd;
+    }
+
+    /**
+     * @param instant the instant.
+     * @return the items active at the instant, by start.
+     */
+    public List<T> findActive(Instant instant) {
+        return findOverlapping(instant, instant);
+    }
+
+    /**
+     * @param from the start of the period.
+     * @param to the end of the period, included.
+     * @return the items active at some point of the period, by start.
+     */
+    public List<T> findOverlapping(Instant from, Instant to) {
+        List<T> result = new ArrayList<>();
+        collect(0, items.size(), from, to, result);
+        return result;
+    }
+
+    private void collect(int from, int to, Instant periodStart, Instant periodEnd, List<T> result) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        if (maxEnds[mid].isBefore(periodStart)) {
+            return;
+        }
+        collect(from, mid, periodStart, periodEnd, result);
+        if (starts[mid].isAfter(periodEnd)) {
+            // The items on the right start even later
+            return;
+        }
+        if (!ends[mid].isBefore(periodStart)) {
+            result.add(items.get(mid));
+        }
+        collect(mid + 1, to, periodStart, periodEnd, result);
+    }
+
+    public int size() {
+        return items.size();
+    }
+}
@@ -0,0 +1,14 @@
+package com.shaffaf.shaffafservice.service;
+
+import java.util.List;
+
+/**
+ * Loads the notices of a project for the {@link ActiveNoticeCache}, with a single query.
+ */
+public interface NoticeLoader {
+    /**
+     * @param projectId the id of the project.
+     * @return the notices of the project which are displayed now or later, in their display order.
+     */
+    List<NoticeWindow> findByProjectId(Long projectId);
+}
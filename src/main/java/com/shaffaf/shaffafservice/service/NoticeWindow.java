@@ -0,0 +1,20 @@
+package com.shaffaf.shaffafservice.service;
+
+import java.time.Instant;
+
+/**
+ * A notice of a project over its display window.
+ *
+ * @param notice the notice, as serialized in the responses.
+ * @param displayStartDate the start of the display window.
+ * @param displayEndDate the end of the display window, included, {@code null} when the notice stays displayed.
+ */
+public record NoticeWindow(Object notice, Instant displayStartDate, Instant displayEndDate) {
+    /**
+     * @param instant the instant.
+     * @return whether the notice is displayed at the instant.
+     */
+    public boolean isDisplayedAt(Instant instant) {
+        return !displayStartDate.isAfter(instant) && (displayEndDate == null || !displayEndDate.isBefore(instant));
+    }
+}
@@ -0,0 +1,84 @@
+package com.shaffaf.shaffafservice.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import com.shaffaf.shaffafservice.repository.AfterCommit;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service resolving the discounts of a project active at an instant or over a period, from an {@link IntervalTree} of
+ * its discounts kept in memory by each member.
+ * <p>
+ * The tree of a project is loaded with the {@link ProjectDiscountLoader} on first use, and dropped by every member of
+ * the cluster when {@link #invalidate} is called by the transaction writing one of its discounts, once committed.
+ */
+@Service
+public class ProjectDiscountIndex implements DisposableBean {
+
+    public static final String INVALIDATION_TOPIC_NAME = "projectDiscountInvalidation";
+
+    private final ObjectProvider<ProjectDiscountLoader> projectDiscountLoader;
+
+    private final ITopic<Long> invalidationTopic;
+
+    private final UUID invalidationListenerId;
+
+    private final Map<Long, IntervalTree<ProjectDiscountWindow>> trees = new ConcurrentHashMap<>();
+
+    public ProjectDiscountIndex(ObjectProvider<ProjectDiscountLoader> projectDiscountLoader, HazelcastInstance hazelcastInstance) {
+        this.projectDiscountLoader = projectDiscountLoader;
+        this.invalidationTopic = hazelcastInstance.getTopic(INVALIDATION_TOPIC_NAME);
+        this.invalidationListenerId = invalidationTopic.addMessageListener(message -> trees.remove(message.getMessageObject()));
+    }
+
+    /**
+     * @param projectId the id of the project.
+     * @param instant the instant.
+     * @return the discounts of the project active at the instant, by start.
+     */
+    public List<ProjectDiscountWindow> findActive(Long projectId, Instant instant) {
+        return tree(projectId).findActive(instant);
+    }
+
+    /**
+     * @param projectId the id of the project.
+     * @param from the start of the period.
+     * @param to the end of the period, included.
+     * @return the discounts of the project active at some point of the period, by start.
+     */
+    public List<ProjectDiscountWindow> findOverlapping(Long projectId, Instant from, Instant to) {
+        return tree(projectId).findOverlapping(from, to);
+    }
+
+    /**
+     * Drops the discounts of the project on every member, once the current transaction is committed.
+     *
+     * @param projectId the id of the project whose discounts were written.
+     */
+    public void invalidate(Long projectId) {
+        AfterCommit.run(() -> invalidationTopic.publish(projectId));
+    }
+
+    private IntervalTree<ProjectDiscountWindow> tree(Long projectId) {
+        // The invalidation of a project waits for the tree being loaded, so a tree read before the commit is dropped too
+        return trees.computeIfAbsent(projectId, id -> {
+            ProjectDiscountLoader loader = projectDiscountLoader.getIfAvailable();
+            if (loader == null) {
+                throw new IllegalStateException("No ProjectDiscountLoader is defined, the discounts cannot be resolved");
+            }
+            return new IntervalTree<>(loader.findByProjectId(id), ProjectDiscountWindow::startDate, ProjectDiscountWindow::endDate);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        invalidationTopic.removeMessageListener(invalidationListenerId);
+    }
+}
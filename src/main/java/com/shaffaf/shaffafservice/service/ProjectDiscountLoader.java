@@ -0,0 +1,14 @@
+package com.shaffaf.shaffafservice.service;
+
+import java.util.List;
+
+/**
+ * Loads the discounts of a project for the {@link ProjectDiscountIndex}, with a single query.
+ */
+public interface ProjectDiscountLoader {
+    /**
+     * @param projectId the id of the project.
+     * @return all the discounts of the project, past and future included.
+     */
+    List<ProjectDiscountWindow> findByProjectId(Long projectId);
+}
@@ -0,0 +1,15 @@
+package com.shaffaf.shaffafservice.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * A discount of a project over its validity window.
+ *
+ * @param discountId the id of the discount.
+ * @param startDate the start of the window.
+ * @param endDate the end of the window, included, {@code null} when the discount does not end.
+ * @param percentage the percentage taken off the fees, {@code null} for none.
+ * @param amount the amount taken off the fees, {@code null} for none.
+ */
+public record ProjectDiscountWindow(Long discountId, Instant startDate, Instant endDate, BigDecimal percentage, BigDecimal amount) {}
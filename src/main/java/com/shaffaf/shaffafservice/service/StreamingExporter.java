@@ -0,0 +1,141 @@
+package com.shaffaf.shaffafservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Service writing the entities of a repository {@link Stream} to the response, as they are read from the database.
+ * <p>
+ * The stream is read in a read-only transaction, in the thread writing the response, and each entity is detached once
+ * written: the memory used does not depend on the number of rows. See
+ * {@link com.shaffaf.shaffafservice.repository.StreamingQueries} for the hints of the streaming repository methods.
+ */
+@Service
+public class StreamingExporter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingExporter.class);
+
+    private static final String CSV_SEPARATOR = ",";
+
+    private static final String CSV_LINE_SEPARATOR = "\r\n";
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    public StreamingExporter(EntityManager entityManager, PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param format the format of the export.
+     * @param columns the value of each column, by column name, in the column order.
+     * @param query the repository method returning the stream, called when the response is written.
+     * @param <E> the type of the entities.
+     * @return the body of the response.
+     */
+    public <E> StreamingResponseBody export(ExportFormat format, Map<String, Function<E, Object>> columns, Supplier<Stream<E>> query) {
+        return outputStream ->
+            transactionTemplate.executeWithoutResult(status -> {
+                long start = System.nanoTime();
+                try (Stream<E> entities = query.get()) {
+                    long rows = switch (format) {
+                        case CSV -> writeCsv(outputStream, columns, entities.iterator());
+                        case NDJSON -> writeNdjson(outputStream, columns, entities.iterator());
+                    };
+                    LOG.debug("Exported {} rows as {} in {} ms", rows, format, (System.nanoTime() - start) / 1_000_000);
+                } catch (IOException e) {
+                    // Most likely the client went away, the response is already committed
+                    throw new UncheckedIOException(e);
+                }
+            });
+    }
+
+    private <E> long writeCsv(OutputStream outputStream, Map<String, Function<E, Object>> columns, Iterator<E> entities)
+        throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(String.join(CSV_SEPARATOR, columns.keySet().stream().map(StreamingExporter::csvCell).toList()));
+        writer.write(CSV_LINE_SEPARATOR);
+        long rows = 0;
+        while (entities.hasNext()) {
+            E entity = entities.next();
+            boolean first = true;
+            for (Function<E, Object> column : columns.values()) {
+                if (!first) {
+                    writer.write(CSV_SEPARATOR);
+                }
+                writer.write(csvCell(column.apply(entity)));
+                first = false;
+            }
+            writer.write(CSV_LINE_SEPARATOR);
+            entityManager.detach(entity);
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private <E> long writeNdjson(OutputStream outputStream, Map<String, Function<E, Object>> columns, Iterator<E> entities)
+        throws IOException {
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            // Each object ends with its own line break, rather than being separated by a space
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            while (entities.hasNext()) {
+                E entity = entities.next();
+                generator.writeStartObject();
+                for (Map.Entry<String, Function<E, Object>> column : columns.entrySet()) {
+                    generator.writeObjectField(column.getKey(), column.getValue().apply(entity));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                entityManager.detach(entity);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Quotes the cells with a separator, a quote or a line break, and neutralizes the text cells read as formulas by the
+     * spreadsheets.
+     */
+    static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String cell = value.toString();
+        if (value instanceof CharSequence && !cell.isEmpty() && "=+-@\t\r".indexOf(cell.charAt(0)) >= 0) {
+            cell = "'" + cell;
+        }
+        if (cell.contains(CSV_SEPARATOR) || cell.contains("\"") || cell.contains("\n") || cell.contains("\r")) {
+            return "\"" + cell.replace("\"", "\"\"") + "\"";
+        }
+        return cell;
+    }
+}
@@ -0,0 +1,12 @@
+package com.shaffaf.shaffafservice.service;
+
+import com.shaffaf.shaffafservice.domain.UnitBalance;
+
+/**
+ * A balance found different from its source rows by the reconciliation.
+ *
+ * @param unitId the id of the unit.
+ * @param recorded the totals recorded in the ledger.
+ * @param rebuilt the totals rebuilt from the source rows, which replaced them.
+ */
+public record UnitBalanceDrift(Long unitId, UnitBalance recorded, UnitBalance rebuilt) {}
@@ -0,0 +1,122 @@
+package com.shaffaf.shaffafservice.service;
+
+import com.shaffaf.shaffafservice.domain.UnitBalance;
+import com.shaffaf.shaffafservice.repository.UnitBalanceRepository;
+import com.shaffaf.shaffafservice.repository.UnitDueJdbcRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service rebuilding the {@link UnitBalance}s from their source rows, and reporting those which drifted.
+ * <p>
+ * The ledger and the sources are read from the same snapshot, in a repeatable read transaction: a balance written
+ * concurrently is not mistaken for a drift, and the rebuilt balance cannot overwrite it as the transaction then fails.
+ * The dues come from the {@code unit_due} table, the collected amounts from the {@link UnitCollectionTotals} bean, if
+ * any.
+ */
+@Service
+public class UnitBalanceReconciliationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UnitBalanceReconciliationService.class);
+
+    private final UnitDueJdbcRepository unitDueJdbcRepository;
+
+    private final UnitBalanceRepository unitBalanceRepository;
+
+    private final UnitBalanceService unitBalanceService;
+
+    private final ObjectProvider<UnitCollectionTotals> unitCollectionTotals;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public UnitBalanceReconciliationService(
+        UnitDueJdbcRepository unitDueJdbcRepository,
+        UnitBalanceRepository unitBalanceRepository,
+        UnitBalanceService unitBalanceService,
+        ObjectProvider<UnitCollectionTotals> unitCollectionTotals,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.unitDueJdbcRepository = unitDueJdbcRepository;
+        this.unitBalanceRepository = unitBalanceRepository;
+        this.unitBalanceService = unitBalanceService;
+        this.unitCollectionTotals = unitCollectionTotals;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Reconciles the balances, on the {@code application.balance.reconciliation-cron} schedule.
+     */
+    @Scheduled(cron = "${application.balance.reconciliation-cron:-}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * @return the balances which drifted, now replaced by the totals of their source rows.
+     */
+    public List<UnitBalanceDrift> reconcile() {
+        List<UnitBalanceDrift> drifts = transactionTemplate.execute(status -> {
+            Map<Long, UnitBalance> recorded = unitBalanceRepository
+                .findAll()
+                .stream()
+                .collect(Collectors.toMap(UnitBalance::unitId, Function.identity()));
+            Map<Long, BigDecimal> dueAmounts = unitDueJdbcRepository.sumAmountsByUnit();
+            UnitCollectionTotals collectionTotals = unitCollectionTotals.getIfAvailable();
+            Map<Long, BigDecimal> collectedAmounts = collectionTotals == null ? null : collectionTotals.findCollectedAmountsByUnit();
+
+            TreeSet<Long> unitIds = new TreeSet<>(recorded.keySet());
+            unitIds.addAll(dueAmounts.keySet());
+            if (collectedAmounts != null) {
+                unitIds.addAll(collectedAmounts.keySet());
+            }
+            List<UnitBalanceDrift> found = unitIds
+                .stream()
+                .map(unitId -> {
+                    UnitBalance ledger = recorded.getOrDefault(unitId, UnitBalance.empty(unitId));
+                    UnitBalance rebuilt = new UnitBalance(
+                        unitId,
+                        dueAmounts.getOrDefault(unitId, BigDecimal.ZERO),
+                        collectedAmounts == null ? ledger.collectedAmount() : collectedAmounts.getOrDefault(unitId, BigDecimal.ZERO)
+                    );
+                    return new UnitBalanceDrift(unitId, ledger, rebuilt);
+                })
+                .filter(drift -> !sameAmounts(drift.recorded(), drift.rebuilt()))
+                .toList();
+            unitBalanceService.saveAll(found.stream().map(UnitBalanceDrift::rebuilt).toList());
+            return found;
+        });
+
+        if (unitCollectionTotals.getIfAvailable() == null) {
+            LOG.debug("No UnitCollectionTotals is defined, only the dues of the balances were reconciled");
+        }
+        if (drifts.isEmpty()) {
+            LOG.info("Reconciled the balances, none drifted");
+        } else {
+            LOG.warn(
+                "Reconciled the balances, {} drifted and were rebuilt: {}",
+                drifts.size(),
+                drifts.stream().map(UnitBalanceDrift::unitId).limit(20).toList()
+            );
+        }
+        return drifts;
+    }
+
+    private static boolean sameAmounts(UnitBalance recorded, UnitBalance rebuilt) {
+        return (
+            recorded.dueAmount().compareTo(rebuilt.dueAmount()) == 0 && recorded.collectedAmount().compareTo(rebuilt.collectedAmount()) == 0
+        );
+    }
+}
@@ -0,0 +1,149 @@
+package com.shaffaf.shaffafservice.service;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.ExtendedMapEntry;
+import com.hazelcast.map.IMap;
+import com.shaffaf.shaffafservice.config.ApplicationProperties;
+import com.shaffaf.shaffafservice.domain.UnitBalance;
+import com.shaffaf.shaffafservice.domain.UnitDue;
+import com.shaffaf.shaffafservice.domain.VersionedUnitBalance;
+import com.shaffaf.shaffafservice.repository.AfterCommit;
+import com.shaffaf.shaffafservice.repository.UnitBalanceRepository;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service maintaining the {@link UnitBalance}s: each due or collection written adds to the totals of its unit in the
+ * same transaction, and the balances are read from a Hazelcast map in front of the {@code unit_balance} table.
+ * <p>
+ * The cached balance of a unit is replaced by the one written once the transaction writing it is committed, and expires
+ * after {@code application.balance.cache-ttl-seconds}. The cached balances are only ever replaced by more recent ones,
+ * by the {@code last_modified_date} of their row, so that a reader caching a balance read before the commit does not
+ * overwrite the one written.
+ */
+@Service
+public class UnitBalanceService {
+
+    public static final String MAP_NAME = "unitBalance";
+
+    private final UnitBalanceRepository unitBalanceRepository;
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final long cacheTtlSeconds;
+
+    public UnitBalanceService(
+        UnitBalanceRepository unitBalanceRepository,
+        HazelcastInstance hazelcastInstance,
+        ApplicationProperties applicationProperties
+    ) {
+        this.unitBalanceRepository = unitBalanceRepository;
+        this.hazelcastInstance = hazelcastInstance;
+        this.cacheTtlSeconds = applicationProperties.getBalance().getCacheTtlSeconds();
+    }
+
+    /**
+     * @param unitId the id of the unit.
+     * @return the totals of the unit, empty when it has neither due nor collection.
+     */
+    public UnitBalance getBalance(Long unitId) {
+        VersionedUnitBalance balance = cachedBalances().get(unitId);
+        if (balance == null) {
+            balance = unitBalanceRepository
+                .findVersionedById(unitId)
+                .orElseGet(() -> new VersionedUnitBalance(UnitBalance.empty(unitId), null));
+            cache(balance);
+        }
+        return balance.balance();
+    }
+
+    /**
+     * To be called in the transaction writing the dues.
+     *
+     * @param unitDues the dues created.
+     */
+    @Transactional
+    public void recordDues(Collection<UnitDue> unitDues) {
+        add(
+            unitDues
+                .stream()
+                .collect(Collectors.groupingBy(UnitDue::unitId, TreeMap::new, Collectors.reducing(BigDecimal.ZERO, UnitDue::amount, BigDecimal::add)))
+                .entrySet()
+                .stream()
+                .map(entry -> new UnitBalance(entry.getKey(), entry.getValue(), BigDecimal.ZERO))
+                .toList()
+        );
+    }
+
+    /**
+     * To be called in the transaction writing the collection.
+     *
+     * @param unitId the id of the unit.
+     * @param amount the amount collected, negative when a collection is cancelled.
+     */
+    @Transactional
+    public void recordCollection(Long unitId, BigDecimal amount) {
+        add(List.of(new UnitBalance(unitId, BigDecimal.ZERO, amount)));
+    }
+
+    /**
+     * @param balances the totals replacing those of the units.
+     */
+    @Transactional
+    public void saveAll(Collection<UnitBalance> balances) {
+        cacheAfterCommit(unitBalanceRepository.saveAll(balances));
+    }
+
+    /**
+     * @param amounts the amounts to add, sorted by unit so that concurrent writers lock the rows in the same order.
+     */
+    private void add(List<UnitBalance> amounts) {
+        if (amounts.isEmpty()) {
+            return;
+        }
+        cacheAfterCommit(unitBalanceRepository.addAll(amounts));
+    }
+
+    private void cacheAfterCommit(List<VersionedUnitBalance> balances) {
+        AfterCommit.run(() -> balances.forEach(this::cache));
+    }
+
+    private void cache(VersionedUnitBalance balance) {
+        cachedBalances().executeOnKey(balance.balance().unitId(), new CacheIfAtLeastAsRecent(balance, cacheTtlSeconds));
+    }
+
+    private IMap<Long, VersionedUnitBalance> cachedBalances() {
+        return hazelcastInstance.getMap(MAP_NAME);
+    }
+
+    /**
+     * Caches a balance unless a more recent one is cached, on the member owning the entry.
+     */
+    private static final class CacheIfAtLeastAsRecent implements EntryProcessor<Long, VersionedUnitBalance, Void> {
+
+        private final VersionedUnitBalance balance;
+
+        private final long ttlSeconds;
+
+        private CacheIfAtLeastAsRecent(VersionedUnitBalance balance, long ttlSeconds) {
+            this.balance = balance;
+            this.ttlSeconds = ttlSeconds;
+        }
+
+        @Override
+        public Void process(Map.Entry<Long, VersionedUnitBalance> entry) {
+            if (balance.isAtLeastAsRecentAs(entry.getValue())) {
+                ((ExtendedMapEntry<Long, VersionedUnitBalance>) entry).setValue(balance, ttlSeconds, TimeUnit.SECONDS);
+            }
+            return null;
+        }
+    }
+}
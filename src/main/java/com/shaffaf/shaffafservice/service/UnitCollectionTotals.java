@@ -0,0 +1,14 @@
+package com.shaffaf.shaffafservice.service;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Source of the collected amounts for the reconciliation of the balances.
+ */
+public interface UnitCollectionTotals {
+    /**
+     * @return the total collected from each unit, by unit id.
+     */
+    Map<Long, BigDecimal> findCollectedAmountsByUnit();
+}
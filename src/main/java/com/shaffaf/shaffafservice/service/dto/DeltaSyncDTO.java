@@ -0,0 +1,15 @@
+package com.shaffaf.shaffafservice.service.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A page of the changes of an entity since the watermark of an offline client.
+ *
+ * @param changed the entities created or updated since the watermark.
+ * @param deleted the ids of the entities deleted since the watermark.
+ * @param watermark the watermark to send back for the next page, or the next synchronization.
+ * @param hasMore whether more changes follow, to read right away with the new watermark.
+ * @param <T> the type of the entities.
+ */
+public record DeltaSyncDTO<T>(List<T> changed, List<Object> deleted, String watermark, boolean hasMore) implements Serializable {}
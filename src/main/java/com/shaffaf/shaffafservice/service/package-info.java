@@ -0,0 +1,4 @@
+/**
+ * Service layer.
+ */
+package com.shaffaf.shaffafservice.service;
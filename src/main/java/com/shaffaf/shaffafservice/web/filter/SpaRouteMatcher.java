@@ -0,0 +1,102 @@
+package com.shaffaf.shaffafservice.web.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Decides, in a single pass over the request path, whether it is a client route to be served by {@code index.html}.
+ * <p>
+ * A path is a client route when it starts with {@code /}, has no period nor line terminator, and does not start with any
+ * of the excluded prefixes. The excluded prefixes are compiled into a prefix trie.
+ */
+public final class SpaRouteMatcher {
+
+    private static final int NO_NODE = -1;
+
+    // Trie nodes, by index: the sorted labels of the edges, their child nodes, and whether an excluded prefix ends there
+    private final char[][] labels;
+
+    private final int[][] children;
+
+    private final boolean[] terminal;
+
+    public SpaRouteMatcher(Collection<String> excludedPrefixes) {
+        List<Map<Character, Integer>> edges = new ArrayList<>();
+        List<Boolean> terminals = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        terminals.add(false);
+        for (String prefix : excludedPrefixes) {
+            int node = 0;
+            for (int i = 0; i < prefix.length(); i++) {
+                Integer child = edges.get(node).get(prefix.charAt(i));
+                if (child == null) {
+                    child = edges.size();
+                    edges.get(node).put(prefix.charAt(i), child);
+                    edges.add(new TreeMap<>());
+                    terminals.add(false);
+                }
+                node = child;
+            }
+            terminals.set(node, true);
+        }
+        labels = new char[edges.size()][];
+        children = new int[edges.size()][];
+        terminal = new boolean[edges.size()];
+        for (int node = 0; node < edges.size(); node++) {
+            Map<Character, Integer> nodeEdges = edges.get(node);
+            labels[node] = new char[nodeEdges.size()];
+            children[node] = new int[nodeEdges.size()];
+            int edge = 0;
+            for (Map.Entry<Character, Integer> entry : nodeEdges.entrySet()) {
+                labels[node][edge] = entry.getKey();
+                children[node][edge] = entry.getValue();
+                edge++;
+            }
+            terminal[node] = terminals.get(node);
+        }
+    }
+
+    /**
+     * Checks if the path is a client route.
+     *
+     * @param path the request path, without the context path.
+     * @return true if the path is to be served by {@code index.html}, false otherwise.
+     */
+    public boolean isSpaRoute(String path) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            return false;
+        }
+        int node = 0;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '.' || isLineTerminator(c)) {
+                return false;
+            }
+            if (node != NO_NODE) {
+                if (terminal[node]) {
+                    return false;
+                }
+                node = child(node, c);
+            }
+        }
+        return node == NO_NODE || !terminal[node];
+    }
+
+    private int child(int node, char c) {
+        char[] nodeLabels = labels[node];
+        for (int edge = 0; edge < nodeLabels.length; edge++) {
+            if (nodeLabels[edge] == c) {
+                return children[node][edge];
+            }
+        }
+        return NO_NODE;
+    }
+
+    // Characters not matched by the "." of a regular expression, as the "/(.*)" pattern formerly used
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -5,29 +5,108 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 public class SpaWebFilter extends OncePerRequestFilter {
 
+    private static final Logger LOG = LoggerFactory.getLogger(SpaWebFilter.class);
+
+    public static final List<String> DEFAULT_EXCLUDED_PREFIXES = List.of("/api", "/management", "/v3/api-docs");
+
+    private static final String INDEX_CONTENT_TYPE = MediaType.TEXT_HTML_VALUE + ";charset=UTF-8";
+
+    private static final String INDEX_CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    private final SpaRouteMatcher routeMatcher;
+
+    private final byte[] index;
+
+    private final String indexETag;
+
+    /**
+     * Creates a filter forwarding the client routes to {@code index.html}, excluding the {@link #DEFAULT_EXCLUDED_PREFIXES}.
+     */
+    public SpaWebFilter() {
+        this(DEFAULT_EXCLUDED_PREFIXES, null);
+    }
+
     /**
-     * Forwards any unmapped paths (except those containing a period) to the client {@code index.html}.
+     * Creates a filter serving the client routes with {@code index.html}.
+     *
+     * @param excludedPrefixes the path prefixes which are never client routes.
+     * @param index the {@code index.html} resource to serve from memory, or {@code null} to forward to {@code index.html}.
+     */
+    public SpaWebFilter(Collection<String> excludedPrefixes, Resource index) {
+        this.routeMatcher = new SpaRouteMatcher(excludedPrefixes);
+        this.index = readIndex(index);
+        this.indexETag = this.index == null ? null : "\"" + DigestUtils.md5DigestAsHex(this.index) + "\"";
+    }
+
+    private static byte[] readIndex(Resource index) {
+        if (index == null) {
+            return null;
+        }
+        if (!index.exists()) {
+            LOG.debug("No {} to serve from memory, client routes are forwarded", index);
+            return null;
+        }
+        try (InputStream in = index.getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            LOG.warn("Could not read {}, client routes are forwarded", index, e);
+            return null;
+        }
+    }
+
+    /**
+     * Serves any unmapped paths (except those containing a period) with the client {@code index.html}.
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
         throws ServletException, IOException {
         // Request URI includes the contextPath if any, removed it.
         String path = request.getRequestURI().substring(request.getContextPath().length());
-        if (
-            !path.startsWith("/api") &&
-            !path.startsWith("/management") &&
-            !path.startsWith("/v3/api-docs") &&
-            !path.contains(".") &&
-            path.matches("/(.*)")
-        ) {
-            request.getRequestDispatcher("/index.html").forward(request, response);
+        if (routeMatcher.isSpaRoute(path)) {
+            if (index != null && isGetOrHead(request)) {
+                serveIndex(request, response);
+            } else {
+                request.getRequestDispatcher("/index.html").forward(request, response);
+            }
             return;
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private static boolean isGetOrHead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    private void serveIndex(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, INDEX_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ETAG, indexETag);
+        if (
+            request.getHeader(HttpHeaders.IF_NONE_MATCH) != null && new ServletWebRequest(request, response).checkNotModified(indexETag)
+        ) {
+            return;
+        }
+        response.setContentType(INDEX_CONTENT_TYPE);
+        response.setContentLength(index.length);
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            response.getOutputStream().write(index);
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import com.shaffaf.shaffafservice.service.CachedJson;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Utility class for the endpoints serving a {@link CachedJson} body, such as those of the
+ * {@link com.shaffaf.shaffafservice.service.ActiveNoticeCache}.
+ */
+public final class ConditionalGetUtil {
+
+    private ConditionalGetUtil() {}
+
+    /**
+     * Spring MVC answers {@code 304 Not Modified}, without the body, when the {@code If-None-Match} header of the request
+     * matches the entity tag of the response.
+     *
+     * @param cachedJson the cached body.
+     * @return the response, which the client must revalidate on each use.
+     */
+    public static ResponseEntity<byte[]> cachedJsonResponse(CachedJson cachedJson) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(cachedJson.eTag())
+            .cacheControl(CacheControl.noCache())
+            .body(cachedJson.body());
+    }
+}
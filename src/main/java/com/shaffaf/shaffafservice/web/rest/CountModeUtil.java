@@ -0,0 +1,57 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import com.shaffaf.shaffafservice.repository.CountMode;
+import com.shaffaf.shaffafservice.web.rest.errors.BadRequestAlertException;
+import java.util.Locale;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
+
+/**
+ * Utility class for the count mode of the {@code X-Total-Count} header, see
+ * {@link com.shaffaf.shaffafservice.repository.TotalCounter}.
+ * <p>
+ * The client chooses the mode with the {@value #COUNT_MODE_HEADER} request header, and gets the mode used in the
+ * response header of the same name, so that it knows when the total is an estimate.
+ */
+public final class CountModeUtil {
+
+    public static final String COUNT_MODE_HEADER = "X-Count-Mode";
+
+    private static final String ENTITY_NAME = "pagination";
+
+    private CountModeUtil() {}
+
+    /**
+     * @param requestedMode the mode requested by the client, {@code null} when it did not choose one.
+     * @param defaultMode the mode of the entity.
+     * @return the count mode.
+     * @throws BadRequestAlertException if the requested mode is unknown.
+     */
+    public static CountMode resolveCountMode(String requestedMode, CountMode defaultMode) {
+        if (requestedMode == null || requestedMode.isBlank()) {
+            return defaultMode;
+        }
+        try {
+            return CountMode.valueOf(requestedMode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid count mode", ENTITY_NAME, "invalidcountmode");
+        }
+    }
+
+    /**
+     * Generate pagination headers for a Spring Data {@link Page} object, with the count mode of its total.
+     *
+     * @param uriBuilder the URI of the current page.
+     * @param page the current page.
+     * @param countMode the count mode of the total of the page.
+     * @param <T> the type of the entries.
+     * @return the headers.
+     */
+    public static <T> HttpHeaders generatePaginationHttpHeaders(UriComponentsBuilder uriBuilder, Page<T> page, CountMode countMode) {
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(uriBuilder, page);
+        headers.add(COUNT_MODE_HEADER, countMode.name().toLowerCase(Locale.ROOT));
+        return headers;
+    }
+}
@@ -0,0 +1,77 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import com.shaffaf.shaffafservice.domain.AbstractAuditingEntity;
+import com.shaffaf.shaffafservice.service.dto.DeltaSyncDTO;
+import com.shaffaf.shaffafservice.web.rest.errors.BadRequestAlertException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+/**
+ * Utility class for the delta synchronization endpoints of the
+ * {@link com.shaffaf.shaffafservice.repository.DeltaSyncRepository}s.
+ * <p>
+ * The watermark is exchanged as an opaque cursor, as those of the {@link KeysetPaginationUtil}: the client sends the
+ * watermark of its last synchronization in the {@value #WATERMARK_PARAMETER} parameter, none the first time, and
+ * keeps the one returned once it applied the changes.
+ */
+public final class DeltaSyncUtil {
+
+    public static final String WATERMARK_PARAMETER = "since";
+
+    private static final String LAST_MODIFIED_DATE_KEY = "lastModifiedDate";
+
+    private DeltaSyncUtil() {}
+
+    /**
+     * @param watermark the watermark sent by the client, {@code null} for all the entities.
+     * @return the position after which the changes start.
+     * @throws BadRequestAlertException if the watermark was not issued by {@link #toDeltaSync}.
+     */
+    public static KeysetScrollPosition parseWatermark(String watermark) {
+        return KeysetPaginationUtil.parseCursor(watermark, LAST_MODIFIED_DATE_KEY);
+    }
+
+    /**
+     * @param safetyLag the duration of the longest write transaction.
+     * @return the upper bound of the changes returned now.
+     */
+    public static Instant changedBefore(Duration safetyLag) {
+        return Instant.now().minus(safetyLag);
+    }
+
+    /**
+     * @param window the page of changes.
+     * @param watermark the watermark sent by the client.
+     * @param isDeleted whether an entity is soft-deleted, such as by its deletion date.
+     * @param mapper the mapper of the changed entities to their DTOs.
+     * @param <E> the type of the entities.
+     * @param <T> the type of the DTOs.
+     * @return the changes, with the watermark after the last one, or the same watermark when there is none.
+     */
+    public static <E extends AbstractAuditingEntity<?>, T> DeltaSyncDTO<T> toDeltaSync(
+        Window<E> window,
+        String watermark,
+        Predicate<E> isDeleted,
+        Function<E, T> mapper
+    ) {
+        List<T> changed = new ArrayList<>();
+        List<Object> deleted = new ArrayList<>();
+        for (E entity : window) {
+            if (isDeleted.test(entity)) {
+                deleted.add(entity.getId());
+            } else {
+                changed.add(mapper.apply(entity));
+            }
+        }
+        String nextWatermark = window.isEmpty()
+            ? watermark
+            : KeysetPaginationUtil.toCursor(window.positionAt(window.size() - 1), LAST_MODIFIED_DATE_KEY);
+        return new DeltaSyncDTO<>(changed, deleted, nextWatermark, window.hasNext());
+    }
+}
@@ -0,0 +1,49 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import com.shaffaf.shaffafservice.service.ExportFormat;
+import com.shaffaf.shaffafservice.web.rest.errors.BadRequestAlertException;
+import java.util.Locale;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Utility class for the export endpoints, streaming the bodies of the
+ * {@link com.shaffaf.shaffafservice.service.StreamingExporter}.
+ */
+public final class ExportUtil {
+
+    private static final String ENTITY_NAME = "export";
+
+    private ExportUtil() {}
+
+    /**
+     * @param format the format requested by the client, such as {@code csv} or {@code ndjson}.
+     * @return the export format.
+     * @throws BadRequestAlertException if the format is unknown.
+     */
+    public static ExportFormat parseExportFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestAlertException("Invalid export format", ENTITY_NAME, "invalidexportformat");
+        }
+    }
+
+    /**
+     * @param fileName the name of the downloaded file, without its extension.
+     * @param format the export format.
+     * @param body the streamed body.
+     * @return the response, downloaded as an attachment.
+     */
+    public static ResponseEntity<StreamingResponseBody> exportResponse(String fileName, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition contentDisposition = ContentDisposition.attachment()
+            .filename(fileName + "." + format.getFileExtension())
+            .build();
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+            .body(body);
+    }
+}
@@ -0,0 +1,104 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import com.shaffaf.shaffafservice.web.rest.errors.BadRequestAlertException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for the keyset pagination of the
+ * {@link com.shaffaf.shaffafservice.repository.KeysetPaginationRepository}s, alongside the offset pagination of
+ * {@link tech.jhipster.web.util.PaginationUtil}.
+ * <p>
+ * The position of a page is exchanged as an opaque cursor: the client gets the cursor of the next page in the
+ * {@value #NEXT_CURSOR_HEADER} header and the "next" link, and sends it back in the {@value #CURSOR_PARAMETER} parameter.
+ * No total count is returned.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String CURSOR_PARAMETER = "cursor";
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String CREATED_DATE_KEY = "createdDate";
+
+    private static final String ID_KEY = "id";
+
+    private static final String ENTITY_NAME = "pagination";
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * @param cursor the cursor sent by the client, {@code null} for the first page.
+     * @return the position of the page.
+     * @throws BadRequestAlertException if the cursor was not issued by {@link #generateKeysetPaginationHttpHeaders}.
+     */
+    public static KeysetScrollPosition parseCursor(String cursor) {
+        return parseCursor(cursor, CREATED_DATE_KEY);
+    }
+
+    static KeysetScrollPosition parseCursor(String cursor, String dateKey) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String keys = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = keys.lastIndexOf(',');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing id");
+            }
+            Map<String, Object> position = new LinkedHashMap<>();
+            position.put(dateKey, Instant.parse(keys.substring(0, separator)));
+            position.put(ID_KEY, Long.valueOf(keys.substring(separator + 1)));
+            return ScrollPosition.forward(position);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestAlertException("Invalid pagination cursor", ENTITY_NAME, "invalidcursor");
+        }
+    }
+
+    /**
+     * @param position the position of an entry, with its {@code createdDate} and {@code id} keys.
+     * @return the cursor of the page starting after the entry.
+     * @throws IllegalArgumentException if a key of the position is {@code null}, as no page can start after it.
+     */
+    public static String toCursor(ScrollPosition position) {
+        return toCursor(position, CREATED_DATE_KEY);
+    }
+
+    static String toCursor(ScrollPosition position, String dateKey) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        Object date = keys.get(dateKey);
+        Object id = keys.get(ID_KEY);
+        if (date == null || id == null) {
+            throw new IllegalArgumentException("The position has no " + (date == null ? dateKey : ID_KEY) + ": " + keys);
+        }
+        String cursor = date + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Generate keyset pagination headers for a Spring Data {@link Window} object.
+     *
+     * @param uriBuilder the URI of the current page.
+     * @param window the current page.
+     * @param <T> the type of the entries.
+     * @return the headers, with the cursor and the link of the next page when there is one.
+     */
+    public static <T> HttpHeaders generateKeysetPaginationHttpHeaders(UriComponentsBuilder uriBuilder, Window<T> window) {
+        HttpHeaders headers = new HttpHeaders();
+        if (window.hasNext() && !window.isEmpty()) {
+            String cursor = toCursor(window.positionAt(window.size() - 1));
+            headers.add(NEXT_CURSOR_HEADER, cursor);
+            headers.add(HttpHeaders.LINK, "<" + uriBuilder.replaceQueryParam(CURSOR_PARAMETER, cursor).toUriString() + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+}
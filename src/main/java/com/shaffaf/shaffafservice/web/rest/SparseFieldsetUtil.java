@@ -0,0 +1,48 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import com.shaffaf.shaffafservice.web.rest.errors.BadRequestAlertException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Utility class for the {@value #FIELDS_PARAMETER} parameter of the list endpoints, such as
+ * {@code ?fields=name,floor}, read with the {@link com.shaffaf.shaffafservice.repository.SparseFieldsetRepository}.
+ * <p>
+ * The {@code id} is always returned, first.
+ */
+public final class SparseFieldsetUtil {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    private static final String ID_FIELD = "id";
+
+    private static final String ENTITY_NAME = "fields";
+
+    private SparseFieldsetUtil() {}
+
+    /**
+     * @param fields the comma-separated fields requested by the client, {@code null} for the full representation.
+     * @param selectableFields the fields which can be requested.
+     * @return the requested fields, in their order, or an empty set for the full representation.
+     * @throws BadRequestAlertException if a field cannot be requested.
+     */
+    public static Set<String> parseFields(String fields, Set<String> selectableFields) {
+        if (fields == null || fields.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> requestedFields = new LinkedHashSet<>();
+        requestedFields.add(ID_FIELD);
+        for (String field : fields.split(",")) {
+            String trimmedField = field.trim();
+            if (trimmedField.isEmpty()) {
+                continue;
+            }
+            if (!selectableFields.contains(trimmedField)) {
+                throw new BadRequestAlertException("Unknown field " + trimmedField, ENTITY_NAME, "unknownfield");
+            }
+            requestedFields.add(trimmedField);
+        }
+        return requestedFields;
+    }
+}
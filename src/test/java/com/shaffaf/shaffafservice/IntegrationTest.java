@@ -3,10 +3,12 @@ package com.shaffaf.shaffafservice;
 import com.shaffaf.shaffafservice.config.AsyncSyncConfiguration;
 import com.shaffaf.shaffafservice.config.EmbeddedSQL;
 import com.shaffaf.shaffafservice.config.JacksonConfiguration;
+import com.shaffaf.shaffafservice.config.SqlStatementCountExtension;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.context.SpringBootTest;
 
 /**
@@ -16,5 +18,6 @@ import org.springframework.boot.test.context.SpringBootTest;
 @Retention(RetentionPolicy.RUNTIME)
 @SpringBootTest(classes = { ShaffafserviceApp.class, JacksonConfiguration.class, AsyncSyncConfiguration.class })
 @EmbeddedSQL
+@ExtendWith(SqlStatementCountExtension.class)
 public @interface IntegrationTest {
 }
@@ -0,0 +1,106 @@
+package com.shaffaf.shaffafservice.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Test class for the {@link LoggingAspect} in "metrics" mode.
+ */
+class LoggingAspectTest {
+
+    private MeterRegistry meterRegistry;
+
+    private LoggingAspect loggingAspect;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        loggingAspect = new LoggingAspect(new MockEnvironment(), meterRegistry, 1);
+    }
+
+    @Test
+    void testTimesSuccessfulExecutions() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("toString");
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertThat(loggingAspect.logAround(joinPoint)).isEqualTo("result");
+        assertThat(loggingAspect.logAround(joinPoint)).isEqualTo("result");
+
+        Timer timer = meterRegistry
+            .get(LoggingAspect.METHOD_TIMER_NAME)
+            .tag(LoggingAspect.METHOD_TIMER_CLASS_DIMENSION, "java.lang.Object")
+            .tag(LoggingAspect.METHOD_TIMER_METHOD_DIMENSION, "toString")
+            .tag(LoggingAspect.METHOD_TIMER_EXCEPTION_DIMENSION, "none")
+            .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testTimesFailedExecutionsByException() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("hashCode");
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("Invalid"));
+
+        assertThatThrownBy(() -> loggingAspect.logAround(joinPoint)).isInstanceOf(IllegalArgumentException.class);
+
+        Timer timer = meterRegistry
+            .get(LoggingAspect.METHOD_TIMER_NAME)
+            .tag(LoggingAspect.METHOD_TIMER_METHOD_DIMENSION, "hashCode")
+            .tag(LoggingAspect.METHOD_TIMER_EXCEPTION_DIMENSION, "IllegalArgumentException")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testReusesExceptionTimers() throws Throwable {
+        ProceedingJoinPoint joinPoint = joinPoint("hashCode");
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("Invalid"));
+
+        assertThatThrownBy(() -> loggingAspect.logAround(joinPoint)).isInstanceOf(IllegalStateException.class);
+        // Any timer registered from now on is a no-op one, so only the cached timer keeps counting.
+        meterRegistry.config().meterFilter(MeterFilter.deny());
+        assertThatThrownBy(() -> loggingAspect.logAround(joinPoint)).isInstanceOf(IllegalStateException.class);
+
+        Timer timer = meterRegistry
+            .get(LoggingAspect.METHOD_TIMER_NAME)
+            .tag(LoggingAspect.METHOD_TIMER_METHOD_DIMENSION, "hashCode")
+            .tag(LoggingAspect.METHOD_TIMER_EXCEPTION_DIMENSION, "IllegalStateException")
+            .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testDoesNotTimeWithoutMeterRegistry() throws Throwable {
+        LoggingAspect logOnlyAspect = new LoggingAspect(new MockEnvironment());
+        ProceedingJoinPoint joinPoint = joinPoint("toString");
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertThat(logOnlyAspect.logAround(joinPoint)).isEqualTo("result");
+
+        assertThat(meterRegistry.find(LoggingAspect.METHOD_TIMER_NAME).timers()).isEmpty();
+    }
+
+    private static ProceedingJoinPoint joinPoint(String methodName) throws NoSuchMethodException {
+        Method method = Object.class.getMethod(methodName);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        when(signature.getName()).thenReturn(methodName);
+        when(signature.getDeclaringTypeName()).thenReturn(method.getDeclaringClass().getName());
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        return joinPoint;
+    }
+}
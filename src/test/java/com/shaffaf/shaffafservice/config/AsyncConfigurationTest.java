@@ -0,0 +1,105 @@
+package com.shaffaf.shaffafservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.shaffaf.shaffafservice.management.TaskExecutorMetersDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Test class for the executors of the {@link AsyncConfiguration}, when they are saturated.
+ */
+class AsyncConfigurationTest {
+
+    private MeterRegistry meterRegistry;
+
+    private AsyncConfiguration asyncConfiguration;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setup() {
+        TaskExecutionProperties taskExecutionProperties = new TaskExecutionProperties();
+        taskExecutionProperties.getPool().setCoreSize(1);
+        taskExecutionProperties.getPool().setMaxSize(1);
+        taskExecutionProperties.getPool().setQueueCapacity(1);
+        taskExecutionProperties.getSimple().setConcurrencyLimit(1);
+        meterRegistry = new SimpleMeterRegistry();
+        asyncConfiguration = new AsyncConfiguration(taskExecutionProperties, new MockEnvironment(), meterRegistry);
+    }
+
+    @Test
+    void testPlatformThreadsExecutorReleasesRejectedAndDroppedTasks() {
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) asyncConfiguration.platformThreadsExecutor();
+        executor.initialize();
+        try {
+            executor.execute(this::awaitRelease);
+            await().until(() -> executor.getActiveCount() == 1);
+            executor.execute(this::awaitRelease);
+            assertThat(pendingTasks("platform")).isEqualTo(1);
+
+            assertThatThrownBy(() -> executor.execute(this::awaitRelease)).isInstanceOf(TaskRejectedException.class);
+            assertThat(pendingTasks("platform")).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(pendingTasks("platform")).isZero();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void testVirtualThreadsExecutorReleasesRejectedAndDroppedTasks() {
+        SimpleAsyncTaskExecutor executor = asyncConfiguration.virtualThreadsExecutor();
+        try {
+            executor.execute(this::awaitRelease);
+            await().until(() -> activeTasks("virtual") == 1);
+            executor.execute(this::awaitRelease);
+            assertThat(pendingTasks("virtual")).isEqualTo(1);
+
+            assertThatThrownBy(() -> executor.execute(this::awaitRelease)).isInstanceOf(TaskRejectedException.class);
+            assertThat(pendingTasks("virtual")).isEqualTo(1);
+        } finally {
+            executor.close();
+            release.countDown();
+        }
+
+        await().until(() -> pendingTasks("virtual") == 0);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double pendingTasks(String threads) {
+        return taskMeter(TaskExecutorMetersDecorator.PENDING_TASKS_METER_NAME, threads);
+    }
+
+    private double activeTasks(String threads) {
+        return taskMeter(TaskExecutorMetersDecorator.ACTIVE_TASKS_METER_NAME, threads);
+    }
+
+    private double taskMeter(String name, String threads) {
+        return meterRegistry
+            .get(name)
+            .tag(TaskExecutorMetersDecorator.THREADS_DIMENSION, threads)
+            .gauge()
+            .value();
+    }
+}
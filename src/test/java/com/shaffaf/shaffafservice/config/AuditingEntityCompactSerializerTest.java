@@ -0,0 +1,70 @@
+package com.shaffaf.shaffafservice.config;
+
+import static com.shaffaf.shaffafservice.config.HazelcastSerializationTestUtils.sampleEntity;
+import static com.shaffaf.shaffafservice.config.HazelcastSerializationTestUtils.serializationService;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.shaffaf.shaffafservice.config.HazelcastSerializationTestUtils.SampleEntity;
+import com.shaffaf.shaffafservice.config.HazelcastSerializationTestUtils.SampleEntityCompactSerializer;
+import java.io.Serializable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link AuditingEntityCompactSerializer}.
+ */
+class AuditingEntityCompactSerializerTest {
+
+    private SerializationService compactSerializationService;
+
+    @BeforeEach
+    void setup() {
+        SerializationConfig config = new SerializationConfig();
+        config.getCompactSerializationConfig().addSerializer(new SampleEntityCompactSerializer());
+        compactSerializationService = serializationService(config);
+    }
+
+    @Test
+    void testRoundTripsEntityWithAuditFields() {
+        SampleEntity entity = sampleEntity();
+
+        SampleEntity copy = compactSerializationService.toObject(compactSerializationService.toData(entity));
+
+        assertThat(copy).usingRecursiveComparison().isEqualTo(entity);
+    }
+
+    @Test
+    void testRoundTripsNullFields() {
+        SampleEntity entity = new SampleEntity();
+        entity.setCreatedDate(null);
+        entity.setLastModifiedDate(null);
+
+        SampleEntity copy = compactSerializationService.toObject(compactSerializationService.toData(entity));
+
+        assertThat(copy).usingRecursiveComparison().isEqualTo(entity);
+    }
+
+    @Test
+    void testIsSmallerThanJavaSerialization() {
+        Data compactData = compactSerializationService.toData(sampleEntity());
+        Data javaData = serializationService(new SerializationConfig()).toData(sampleEntity());
+
+        assertThat(compactData.totalSize())
+            .as("compact serialized size of %d bytes, java one of %d bytes", compactData.totalSize(), javaData.totalSize())
+            .isLessThan(javaData.totalSize());
+    }
+
+    @Test
+    void testFallsBackToJavaSerializationWithoutSerializer() {
+        UnregisteredValue value = new UnregisteredValue("value");
+
+        UnregisteredValue copy = compactSerializationService.toObject(compactSerializationService.toData(value));
+
+        assertThat(copy.value()).isEqualTo("value");
+    }
+
+    private record UnregisteredValue(String value) implements Serializable {}
+}
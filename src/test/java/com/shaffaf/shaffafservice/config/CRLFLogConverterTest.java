@@ -99,6 +99,44 @@ class CRLFLogConverterTest {
         assertEquals("Test_input_string", result);
     }
 
+    @Test
+    void transformShouldReturnSameInstanceWhenInputHasNoCrlf() {
+        ILoggingEvent event = mock(ILoggingEvent.class);
+        when(event.getLoggerName()).thenReturn("com.mycompany.myapp.example.Logger");
+        String input = "Test input string";
+        CRLFLogConverter converter = new CRLFLogConverter();
+
+        String result = converter.transform(event, input);
+
+        assertSame(input, result);
+    }
+
+    @Test
+    void transformShouldSanitizeLikeTheRegularExpression() {
+        ILoggingEvent event = mock(ILoggingEvent.class);
+        when(event.getMarkerList()).thenReturn(Collections.emptyList());
+        when(event.getLoggerName()).thenReturn("com.mycompany.myapp.example.Logger");
+        CRLFLogConverter converter = new CRLFLogConverter();
+
+        for (String input : List.of("", "\n", "\r\n", "\t\t", "Test\r\ninput\tstring\n", "\nTest input string", "Test input\r\r\rstring")) {
+            assertEquals(input.replaceAll("[\n\r\t]", "_"), converter.transform(event, input));
+        }
+    }
+
+    @Test
+    void isLoggerSafeShouldReturnSameDecisionForCachedLoggerName() {
+        ILoggingEvent safeEvent = mock(ILoggingEvent.class);
+        when(safeEvent.getLoggerName()).thenReturn("org.hibernate.example.Logger");
+        ILoggingEvent unsafeEvent = mock(ILoggingEvent.class);
+        when(unsafeEvent.getLoggerName()).thenReturn("com.mycompany.myapp.example.Logger");
+        CRLFLogConverter converter = new CRLFLogConverter();
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(converter.isLoggerSafe(safeEvent));
+            assertFalse(converter.isLoggerSafe(unsafeEvent));
+        }
+    }
+
     @Test
     void isLoggerSafeShouldReturnTrueWhenLoggerNameStartsWithSafeLogger() {
         ILoggingEvent event = mock(ILoggingEvent.class);
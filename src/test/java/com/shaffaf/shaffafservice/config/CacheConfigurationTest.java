@@ -0,0 +1,86 @@
+package com.shaffaf.shaffafservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the near caches of the {@link CacheConfiguration}.
+ */
+class CacheConfigurationTest {
+
+    @Test
+    void testAddsNearCacheToConfiguredMap() {
+        Config config = new Config();
+        config.addMapConfig(new MapConfig("com.shaffaf.shaffafservice.domain.*").setTimeToLiveSeconds(3600));
+        ApplicationProperties.Cache.NearCache nearCache = new ApplicationProperties.Cache.NearCache();
+        nearCache.setMaxSize(500);
+        nearCache.setInMemoryFormat("OBJECT");
+
+        CacheConfiguration.addNearCacheConfigs(config, Map.of("com.shaffaf.shaffafservice.domain.*", nearCache));
+
+        MapConfig mapConfig = config.getMapConfig("com.shaffaf.shaffafservice.domain.Unit");
+        assertThat(mapConfig.getTimeToLiveSeconds()).isEqualTo(3600);
+        NearCacheConfig nearCacheConfig = mapConfig.getNearCacheConfig();
+        assertThat(nearCacheConfig).isNotNull();
+        assertThat(nearCacheConfig.isInvalidateOnChange()).isTrue();
+        assertThat(nearCacheConfig.getInMemoryFormat()).isEqualTo(InMemoryFormat.OBJECT);
+        assertThat(nearCacheConfig.getEvictionConfig().getMaxSizePolicy()).isEqualTo(MaxSizePolicy.ENTRY_COUNT);
+        assertThat(nearCacheConfig.getEvictionConfig().getSize()).isEqualTo(500);
+    }
+
+    @Test
+    void testAddsNearCacheToMapWithoutConfiguration() {
+        Config config = new Config();
+        config.addMapConfig(new MapConfig("default").setBackupCount(1));
+
+        CacheConfiguration.addNearCacheConfigs(config, Map.of("reference-data", new ApplicationProperties.Cache.NearCache()));
+
+        MapConfig mapConfig = config.getMapConfig("reference-data");
+        assertThat(mapConfig.getBackupCount()).isEqualTo(1);
+        assertThat(mapConfig.getNearCacheConfig().getInMemoryFormat()).isEqualTo(InMemoryFormat.BINARY);
+        assertThat(config.getMapConfig("other").getNearCacheConfig()).isNull();
+    }
+
+    @Test
+    void testMapMatchingWildcardHasNoConfigurationOfItsOwn() {
+        Config config = new Config();
+        MapConfig wildcardConfig = new MapConfig("com.shaffaf.shaffafservice.domain.*");
+        config.addMapConfig(wildcardConfig);
+
+        // This is why addNearCacheConfigs copies the configuration returned for a region matching a wildcard
+        assertThat(config.getMapConfig("com.shaffaf.shaffafservice.domain.Unit")).isSameAs(wildcardConfig);
+        assertThat(config.getMapConfigs()).doesNotContainKey("com.shaffaf.shaffafservice.domain.Unit");
+    }
+
+    @Test
+    void testAddsNearCacheToSpecificRegionsMatchingWildcard() {
+        Config config = new Config();
+        config.addMapConfig(new MapConfig("com.shaffaf.shaffafservice.domain.*").setTimeToLiveSeconds(3600));
+        ApplicationProperties.Cache.NearCache unitNearCache = new ApplicationProperties.Cache.NearCache();
+        unitNearCache.setMaxSize(500);
+        ApplicationProperties.Cache.NearCache blockNearCache = new ApplicationProperties.Cache.NearCache();
+        blockNearCache.setMaxSize(50);
+
+        CacheConfiguration.addNearCacheConfigs(
+            config,
+            Map.of("com.shaffaf.shaffafservice.domain.Unit", unitNearCache, "com.shaffaf.shaffafservice.domain.Block", blockNearCache)
+        );
+
+        MapConfig wildcardConfig = config.getMapConfigs().get("com.shaffaf.shaffafservice.domain.*");
+        assertThat(wildcardConfig.getNearCacheConfig()).isNull();
+        assertThat(config.getMapConfig("com.shaffaf.shaffafservice.domain.Project").getNearCacheConfig()).isNull();
+        MapConfig unitConfig = config.getMapConfig("com.shaffaf.shaffafservice.domain.Unit");
+        assertThat(unitConfig.getTimeToLiveSeconds()).isEqualTo(3600);
+        assertThat(unitConfig.getNearCacheConfig().getEvictionConfig().getSize()).isEqualTo(500);
+        MapConfig blockConfig = config.getMapConfig("com.shaffaf.shaffafservice.domain.Block");
+        assertThat(blockConfig.getTimeToLiveSeconds()).isEqualTo(3600);
+        assertThat(blockConfig.getNearCacheConfig().getEvictionConfig().getSize()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,98 @@
+package com.shaffaf.shaffafservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.shaffaf.shaffafservice.management.TaskExecutorMetersDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Test class for the {@link ConcurrencyLimitingTaskDecorator}, on a {@link SimpleAsyncTaskExecutor} of platform threads.
+ */
+class ConcurrencyLimitingTaskDecoratorTest {
+
+    private MeterRegistry meterRegistry;
+
+    private SimpleAsyncTaskExecutor executor;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final AtomicInteger completedTasks = new AtomicInteger();
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        TaskExecutorMetersDecorator meters = new TaskExecutorMetersDecorator(meterRegistry, "executor", "platform", 1);
+        executor = new SimpleAsyncTaskExecutor();
+        executor.setTaskDecorator(new ConcurrencyLimitingTaskDecorator(meters, 1, 1, executor::isActive));
+        executor.setTaskTerminationTimeout(1);
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.close();
+        release.countDown();
+    }
+
+    @Test
+    void testRunsTheWaitingTasksInTurn() {
+        executor.execute(this::awaitRelease);
+        await().until(() -> activeTasks() == 1);
+
+        executor.execute(this::awaitRelease);
+        assertThat(pendingTasks()).isEqualTo(1);
+
+        release.countDown();
+        await().until(() -> completedTasks.get() == 2);
+        assertThat(pendingTasks()).isZero();
+        assertThat(activeTasks()).isZero();
+    }
+
+    @Test
+    void testRejectsTheTasksBeyondTheQueueCapacityWithoutBlocking() {
+        executor.execute(this::awaitRelease);
+        await().until(() -> activeTasks() == 1);
+        executor.execute(this::awaitRelease);
+
+        assertThatThrownBy(() -> executor.execute(this::awaitRelease)).isInstanceOf(TaskRejectedException.class);
+        assertThat(pendingTasks()).isEqualTo(1);
+    }
+
+    @Test
+    void testDiscardsTheWaitingTasksOnClose() {
+        executor.execute(this::awaitRelease);
+        await().until(() -> activeTasks() == 1);
+        executor.execute(completedTasks::incrementAndGet);
+
+        executor.close();
+
+        await().until(() -> pendingTasks() == 0 && activeTasks() == 0);
+        assertThat(completedTasks.get()).isEqualTo(1);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        completedTasks.incrementAndGet();
+    }
+
+    private double pendingTasks() {
+        return meterRegistry.get(TaskExecutorMetersDecorator.PENDING_TASKS_METER_NAME).gauge().value();
+    }
+
+    private double activeTasks() {
+        return meterRegistry.get(TaskExecutorMetersDecorator.ACTIVE_TASKS_METER_NAME).gauge().value();
+    }
+}
@@ -0,0 +1,138 @@
+package com.shaffaf.shaffafservice.config;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.internal.serialization.impl.compact.SchemaService;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.shaffaf.shaffafservice.domain.AbstractAuditingEntity;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hazelcast serialization without a running instance, and an audited entity with its compact serializer.
+ */
+public final class HazelcastSerializationTestUtils {
+
+    private HazelcastSerializationTestUtils() {}
+
+    /**
+     * @param config the serialization configuration.
+     * @return a serialization service keeping the compact schemas in memory.
+     */
+    public static SerializationService serializationService(SerializationConfig config) {
+        return new DefaultSerializationServiceBuilder().setConfig(config).setSchemaService(new LocalSchemaService()).build();
+    }
+
+    public static SampleEntity sampleEntity() {
+        SampleEntity entity = new SampleEntity();
+        entity.setId(1042L);
+        entity.setName("Block A - Unit 12");
+        entity.setPrice(new BigDecimal("1250000.00"));
+        entity.setAvailable(true);
+        entity.setCreatedBy("admin");
+        entity.setCreatedDate(Instant.parse("2024-03-01T10:15:30.123456Z"));
+        entity.setLastModifiedBy("user");
+        entity.setLastModifiedDate(Instant.parse("2024-03-02T08:00:00.654321Z"));
+        return entity;
+    }
+
+    public static class SampleEntity extends AbstractAuditingEntity<Long> {
+
+        private Long id;
+
+        private String name;
+
+        private BigDecimal price;
+
+        private Boolean available;
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+
+        public Boolean getAvailable() {
+            return available;
+        }
+
+        public void setAvailable(Boolean available) {
+            this.available = available;
+        }
+    }
+
+    public static class SampleEntityCompactSerializer extends AuditingEntityCompactSerializer<SampleEntity> {
+
+        @Override
+        protected SampleEntity readEntity(CompactReader reader) {
+            SampleEntity entity = new SampleEntity();
+            entity.setId(reader.readNullableInt64("id"));
+            entity.setName(reader.readString("name"));
+            entity.setPrice(reader.readDecimal("price"));
+            entity.setAvailable(reader.readNullableBoolean("available"));
+            return entity;
+        }
+
+        @Override
+        protected void writeEntity(CompactWriter writer, SampleEntity entity) {
+            writer.writeNullableInt64("id", entity.getId());
+            writer.writeString("name", entity.getName());
+            writer.writeDecimal("price", entity.getPrice());
+            writer.writeNullableBoolean("available", entity.getAvailable());
+        }
+
+        @Override
+        public String getTypeName() {
+            return "sampleEntity";
+        }
+
+        @Override
+        public Class<SampleEntity> getCompactClass() {
+            return SampleEntity.class;
+        }
+    }
+
+    private static class LocalSchemaService implements SchemaService {
+
+        private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+
+        @Override
+        public Schema get(long schemaId) {
+            return schemas.get(schemaId);
+        }
+
+        @Override
+        public void put(Schema schema) {
+            schemas.putIfAbsent(schema.getSchemaId(), schema);
+        }
+
+        @Override
+        public void putLocal(Schema schema) {
+            put(schema);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.shaffaf.shaffafservice.config;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * Hazelcast instances for the tests of the services using a Hazelcast map or topic.
+ */
+public final class HazelcastTestUtils {
+
+    private HazelcastTestUtils() {}
+
+    /**
+     * @param name the name of the instance and of its cluster, distinct for each test class.
+     * @return a member alone in its cluster, which does not look for other members.
+     */
+    public static HazelcastInstance newStandaloneInstance(String name) {
+        Config config = new Config();
+        config.setInstanceName(name);
+        config.setClusterName(name);
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
+        return Hazelcast.newHazelcastInstance(config);
+    }
+}
@@ -0,0 +1,96 @@
+package com.shaffaf.shaffafservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.joran.spi.JoranException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the wrapping of the root appenders in the {@link RingBufferAsyncAppender} by the
+ * {@link LoggingConfiguration}.
+ */
+class LoggingConfigurationTest {
+
+    private static final String CONFIGURATION =
+        """
+        <configuration>
+            <appender name="CONSOLE" class="ch.qos.logback.core.ConsoleAppender">
+                <encoder>
+                    <pattern>%msg%n</pattern>
+                </encoder>
+            </appender>
+            <root level="INFO">
+                <appender-ref ref="CONSOLE"/>
+            </root>
+        </configuration>
+        """;
+
+    private LoggerContext context;
+
+    private ApplicationProperties.Logging.Async asyncProperties;
+
+    @BeforeEach
+    void setup() throws JoranException {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        configure();
+        asyncProperties = new ApplicationProperties().getLogging().getAsync();
+    }
+
+    @AfterEach
+    void teardown() {
+        context.stop();
+    }
+
+    @Test
+    void testWrapsRootAppenders() {
+        LoggingConfiguration.addRingBufferAsyncAppender(context, asyncProperties);
+
+        assertRootAppendersAreWrapped();
+    }
+
+    @Test
+    void testWrapsRootAppendersAgainAfterResetAndReconfiguration() throws JoranException {
+        LoggingConfiguration.addRingBufferAsyncAppender(context, asyncProperties);
+        LoggingConfiguration.addRingBufferAsyncContextListener(context, asyncProperties);
+
+        context.reset();
+        configure();
+
+        assertRootAppendersAreWrapped();
+    }
+
+    private void configure() throws JoranException {
+        JoranConfigurator configurator = new JoranConfigurator();
+        configurator.setContext(context);
+        configurator.doConfigure(new ByteArrayInputStream(CONFIGURATION.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void assertRootAppendersAreWrapped() {
+        Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        List<Appender<ILoggingEvent>> rootAppenders = new ArrayList<>();
+        rootLogger.iteratorForAppenders().forEachRemaining(rootAppenders::add);
+        assertThat(rootAppenders).singleElement().isInstanceOf(RingBufferAsyncAppender.class);
+
+        RingBufferAsyncAppender asyncAppender = (RingBufferAsyncAppender) rootAppenders.get(0);
+        assertThat(asyncAppender.getName()).isEqualTo(RingBufferAsyncAppender.APPENDER_NAME);
+        assertThat(asyncAppender.isStarted()).isTrue();
+        List<Appender<ILoggingEvent>> wrappedAppenders = new ArrayList<>();
+        asyncAppender.iteratorForAppenders().forEachRemaining(wrappedAppenders::add);
+        assertThat(wrappedAppenders).singleElement().isInstanceOf(ConsoleAppender.class);
+        assertThat(wrappedAppenders.get(0).getName()).isEqualTo("CONSOLE");
+    }
+}
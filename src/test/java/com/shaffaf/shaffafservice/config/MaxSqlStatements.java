@@ -0,0 +1,22 @@
+package com.shaffaf.shaffafservice.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails an integration test running more SQL statements than expected, such as the N+1 queries of a REST call
+ * walking lazy associations. The statements of the {@code @BeforeEach} methods are not counted, nor the ones which
+ * do not go through Hibernate, such as the {@link org.springframework.jdbc.core.JdbcTemplate} ones.
+ *
+ * @see SqlStatementCountExtension
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxSqlStatements {
+    /**
+     * @return the maximum number of SQL statements prepared by the test.
+     */
+    int value();
+}
@@ -0,0 +1,224 @@
+package com.shaffaf.shaffafservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.ref.Reference;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link RingBufferAsyncAppender} and its {@link RingBufferAsyncAppenderMeters}.
+ */
+class RingBufferAsyncAppenderTest {
+
+    private LoggerContext context;
+
+    private Logger logger;
+
+    private BlockingListAppender listAppender;
+
+    private RingBufferAsyncAppender asyncAppender;
+
+    @BeforeEach
+    void setup() {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        logger = context.getLogger(RingBufferAsyncAppenderTest.class);
+        listAppender = new BlockingListAppender();
+        listAppender.setContext(context);
+        listAppender.start();
+        asyncAppender = new RingBufferAsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName(RingBufferAsyncAppender.APPENDER_NAME);
+        asyncAppender.addAppender(listAppender);
+    }
+
+    @AfterEach
+    void teardown() {
+        listAppender.release();
+        asyncAppender.stop();
+    }
+
+    @Test
+    void testAppendsAllEventsInOrder() {
+        listAppender.release();
+        asyncAppender.start();
+
+        for (int i = 0; i < 100; i++) {
+            asyncAppender.doAppend(event(Level.INFO, "message " + i));
+        }
+        asyncAppender.stop();
+
+        assertThat(listAppender.events).hasSize(100);
+        assertThat(listAppender.events.get(0).getFormattedMessage()).isEqualTo("message 0");
+        assertThat(listAppender.events.get(99).getFormattedMessage()).isEqualTo("message 99");
+        assertThat(listAppender.isStarted()).isFalse();
+        assertThat(asyncAppender.getQueuedCount()).isEqualTo(100);
+        assertThat(asyncAppender.getFlushCount()).isEqualTo(100);
+    }
+
+    @Test
+    void testDropsInfoEventsWhenFull() throws Exception {
+        asyncAppender.setQueueSize(4);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.start();
+        fillQueue();
+
+        asyncAppender.doAppend(event(Level.INFO, "dropped"));
+        asyncAppender.doAppend(event(Level.DEBUG, "dropped"));
+
+        assertThat(asyncAppender.getDroppedCount(Level.INFO)).isEqualTo(1);
+        assertThat(asyncAppender.getDroppedCount(Level.DEBUG)).isEqualTo(1);
+        listAppender.release();
+        asyncAppender.stop();
+        assertThat(listAppender.events).hasSize(5).noneMatch(event -> "dropped".equals(event.getMessage()));
+    }
+
+    @Test
+    void testDropsDroppableEventsUnderDiscardingThreshold() throws Exception {
+        asyncAppender.setQueueSize(8);
+        asyncAppender.setDiscardingThreshold(4);
+        asyncAppender.setDroppableLevel("DEBUG");
+        asyncAppender.start();
+        asyncAppender.doAppend(event(Level.INFO, "blocking"));
+        listAppender.awaitBlocked();
+
+        for (int i = 0; i < 5; i++) {
+            asyncAppender.doAppend(event(Level.DEBUG, "queued"));
+        }
+        asyncAppender.doAppend(event(Level.DEBUG, "dropped"));
+        asyncAppender.doAppend(event(Level.INFO, "queued"));
+
+        assertThat(asyncAppender.getDroppedCount(Level.DEBUG)).isEqualTo(1);
+        assertThat(asyncAppender.getDroppedCount(Level.INFO)).isZero();
+        assertThat(asyncAppender.getQueuedSize()).isEqualTo(6);
+    }
+
+    @Test
+    void testNeverDropsWarnEvents() throws Exception {
+        asyncAppender.setQueueSize(4);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.start();
+        fillQueue();
+
+        Thread producer = new Thread(() -> {
+            asyncAppender.doAppend(event(Level.WARN, "warn"));
+            asyncAppender.doAppend(event(Level.ERROR, "error"));
+        });
+        producer.start();
+        producer.join(100);
+        assertThat(producer.isAlive()).isTrue();
+        listAppender.release();
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        asyncAppender.stop();
+
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(listAppender.events).hasSize(7).extracting(ILoggingEvent::getMessage).endsWith("warn", "error");
+        assertThat(asyncAppender.getDroppedCount(Level.WARN)).isZero();
+        assertThat(asyncAppender.getDroppedCount(Level.ERROR)).isZero();
+    }
+
+    @Test
+    void testStopAndDetachAppendersKeepsThemStarted() {
+        listAppender.release();
+        asyncAppender.start();
+        asyncAppender.doAppend(event(Level.INFO, "message"));
+
+        assertThat(asyncAppender.stopAndDetachAppenders()).containsExactly(listAppender);
+        assertThat(listAppender.isStarted()).isTrue();
+        assertThat(listAppender.events).hasSize(1);
+        assertThat(asyncAppender.iteratorForAppenders().hasNext()).isFalse();
+    }
+
+    @Test
+    void testMetersReadTheAppenderOfTheRootLogger() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // The meters only hold a weak reference to their binder, which is a bean in the application
+        RingBufferAsyncAppenderMeters asyncAppenderMeters = new RingBufferAsyncAppenderMeters(context);
+        asyncAppenderMeters.bindTo(meterRegistry);
+        assertThat(meterRegistry.get(RingBufferAsyncAppenderMeters.QUEUED_METER_NAME).functionCounter().count()).isZero();
+
+        asyncAppender.setQueueSize(4);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.start();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(asyncAppender);
+        fillQueue();
+        asyncAppender.doAppend(event(Level.INFO, "dropped"));
+
+        assertThat(meterRegistry.get(RingBufferAsyncAppenderMeters.QUEUED_METER_NAME).functionCounter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get(RingBufferAsyncAppenderMeters.QUEUE_SIZE_METER_NAME).gauge().value()).isEqualTo(4);
+        assertThat(
+            meterRegistry.get(RingBufferAsyncAppenderMeters.DROPPED_METER_NAME).tag("level", "INFO").functionCounter().count()
+        ).isEqualTo(1);
+        assertThat(
+            meterRegistry.get(RingBufferAsyncAppenderMeters.DROPPED_METER_NAME).tag("level", "DEBUG").functionCounter().count()
+        ).isZero();
+
+        listAppender.release();
+        asyncAppender.stopAndDetachAppenders();
+        FunctionTimer flushTimer = meterRegistry.get(RingBufferAsyncAppenderMeters.FLUSH_METER_NAME).functionTimer();
+        assertThat(flushTimer.count()).isEqualTo(5);
+        assertThat(flushTimer.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        Reference.reachabilityFence(asyncAppenderMeters);
+    }
+
+    // Blocks the worker on a first event, then fills the queue behind it
+    private void fillQueue() throws InterruptedException {
+        asyncAppender.doAppend(event(Level.INFO, "blocking"));
+        listAppender.awaitBlocked();
+        for (int i = 0; i < 4; i++) {
+            asyncAppender.doAppend(event(Level.INFO, "queued"));
+        }
+        assertThat(asyncAppender.getQueuedSize()).isEqualTo(4);
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.FQCN, logger, level, message, null, null);
+    }
+
+    /**
+     * Appender collecting the events, blocked until released.
+     */
+    private static class BlockingListAppender extends AppenderBase<ILoggingEvent> {
+
+        private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            blocked.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
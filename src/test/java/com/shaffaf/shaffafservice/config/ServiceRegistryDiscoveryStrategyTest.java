@@ -0,0 +1,146 @@
+package com.shaffaf.shaffafservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.DiscoveryStrategyConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.spi.discovery.DiscoveryNode;
+import com.hazelcast.spi.properties.ClusterProperty;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+/**
+ * Test class for the {@link ServiceRegistryDiscoveryStrategy}.
+ */
+class ServiceRegistryDiscoveryStrategyTest {
+
+    private static final String SERVICE_ID = "shaffafservice";
+
+    private final StandInDiscoveryClient discoveryClient = new StandInDiscoveryClient();
+
+    private final List<HazelcastInstance> hazelcastInstances = new ArrayList<>();
+
+    @AfterEach
+    void teardown() {
+        hazelcastInstances.forEach(HazelcastInstance::shutdown);
+    }
+
+    @Test
+    void testRereadsTheRegistryOnEachDiscovery() throws Exception {
+        ServiceRegistryDiscoveryStrategy strategy = strategy();
+        discoveryClient.register("10.0.0.1", 8081);
+
+        assertThat(addresses(strategy.discoverNodes())).containsExactly(new Address("10.0.0.1", 5701));
+
+        discoveryClient.register("10.0.0.2", 8081);
+
+        assertThat(addresses(strategy.discoverNodes())).containsExactly(new Address("10.0.0.1", 5701), new Address("10.0.0.2", 5701));
+    }
+
+    @Test
+    void testDiscoversNothingWhenTheRegistryIsUnavailable() {
+        ServiceRegistryDiscoveryStrategy strategy = strategy();
+        discoveryClient.register("10.0.0.1", 8081);
+        discoveryClient.unavailable = true;
+
+        assertThat(strategy.discoverNodes()).isEmpty();
+    }
+
+    @Test
+    void testMembersRegisteredLaterJoinTheCluster() {
+        HazelcastInstance first = newHazelcastInstance(5901);
+        discoveryClient.register("127.0.0.1", 5901);
+
+        HazelcastInstance second = newHazelcastInstance(5902);
+
+        await().atMost(Duration.ofSeconds(30)).until(() -> first.getCluster().getMembers().size() == 2);
+        assertThat(second.getCluster().getMembers()).hasSize(2);
+    }
+
+    private ServiceRegistryDiscoveryStrategy strategy() {
+        return new ServiceRegistryDiscoveryStrategy(
+            discoveryClient,
+            SERVICE_ID,
+            instance -> instance.getHost() + ":5701",
+            Logger.getLogger(ServiceRegistryDiscoveryStrategy.class),
+            Collections.emptyMap()
+        );
+    }
+
+    private HazelcastInstance newHazelcastInstance(int port) {
+        Config config = new Config();
+        config.setInstanceName("service-registry-discovery-test-" + port);
+        config.setClusterName("service-registry-discovery-test");
+        config.getNetworkConfig().setPort(port).setPortAutoIncrement(false);
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
+        config
+            .getNetworkConfig()
+            .getJoin()
+            .getDiscoveryConfig()
+            .addDiscoveryStrategyConfig(
+                new DiscoveryStrategyConfig(
+                    new ServiceRegistryDiscoveryStrategyFactory(
+                        discoveryClient,
+                        SERVICE_ID,
+                        instance -> instance.getHost() + ":" + instance.getPort()
+                    )
+                )
+            );
+        config.setProperty(ClusterProperty.DISCOVERY_SPI_ENABLED.getName(), "true");
+        HazelcastInstance hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+        hazelcastInstances.add(hazelcastInstance);
+        return hazelcastInstance;
+    }
+
+    private static List<Address> addresses(Iterable<DiscoveryNode> nodes) {
+        List<Address> addresses = new ArrayList<>();
+        nodes.forEach(node -> addresses.add(node.getPrivateAddress()));
+        return addresses;
+    }
+
+    /**
+     * Local stand-in for the Consul catalog.
+     */
+    private static class StandInDiscoveryClient implements DiscoveryClient {
+
+        private final List<ServiceInstance> instances = new CopyOnWriteArrayList<>();
+
+        private volatile boolean unavailable;
+
+        void register(String host, int port) {
+            instances.add(new DefaultServiceInstance(host + ":" + port, SERVICE_ID, host, port, false));
+        }
+
+        @Override
+        public String description() {
+            return "Stand-in discovery client";
+        }
+
+        @Override
+        public List<ServiceInstance> getInstances(String serviceId) {
+            if (unavailable) {
+                throw new IllegalStateException("Registry unavailable");
+            }
+            return SERVICE_ID.equals(serviceId) ? List.copyOf(instances) : List.of();
+        }
+
+        @Override
+        public List<String> getServices() {
+            return List.of(SERVICE_ID);
+        }
+    }
+}
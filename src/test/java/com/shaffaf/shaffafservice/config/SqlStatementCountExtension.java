@@ -0,0 +1,61 @@
+package com.shaffaf.shaffafservice.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Optional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Counts the SQL statements of the integration tests annotated with {@link MaxSqlStatements}, through the Hibernate
+ * statistics enabled in the test profiles.
+ * <p>
+ * Only the statements prepared by Hibernate are counted: the ones of the repositories running their SQL with a
+ * {@link org.springframework.jdbc.core.JdbcTemplate}, such as the
+ * {@link com.shaffaf.shaffafservice.repository.UnitBalanceRepository}, are not.
+ */
+public class SqlStatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        maxSqlStatements(context).ifPresent(maxSqlStatements -> {
+            Statistics statistics = statistics(context);
+            if (!statistics.isStatisticsEnabled()) {
+                throw new IllegalStateException("@MaxSqlStatements needs hibernate.generate_statistics in the test profile");
+            }
+            statistics.clear();
+        });
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        maxSqlStatements(context).ifPresent(maxSqlStatements -> {
+            long sqlStatements = statistics(context).getPrepareStatementCount();
+            if (sqlStatements > maxSqlStatements.value()) {
+                throw new AssertionError(
+                    String.format(
+                        "%s ran %d SQL statements, at most %d expected",
+                        context.getDisplayName(),
+                        sqlStatements,
+                        maxSqlStatements.value()
+                    )
+                );
+            }
+        });
+    }
+
+    private static Optional<MaxSqlStatements> maxSqlStatements(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getElement(), MaxSqlStatements.class);
+    }
+
+    private static Statistics statistics(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context)
+            .getBean(EntityManagerFactory.class)
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+}
@@ -0,0 +1,69 @@
+package com.shaffaf.shaffafservice.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.shaffaf.shaffafservice.IntegrationTest;
+import com.shaffaf.shaffafservice.repository.timezone.DateTimeWrapper;
+import com.shaffaf.shaffafservice.repository.timezone.DateTimeWrapperRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests of the {@link SqlStatementCountExtension} guarding the SQL statements of REST calls.
+ */
+@AutoConfigureMockMvc
+@WithMockUser
+@IntegrationTest
+@Transactional
+class SqlStatementCountExtensionIT {
+
+    private static final String ENTITY_API_URL = "/api/sql-statement-count-test/date-time-wrappers";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DateTimeWrapperRepository dateTimeWrapperRepository;
+
+    @BeforeEach
+    void setup() {
+        dateTimeWrapperRepository.deleteAll();
+        for (int i = 0; i < 3; i++) {
+            DateTimeWrapper dateTimeWrapper = new DateTimeWrapper();
+            dateTimeWrapper.setInstant(Instant.parse("2014-11-12T05:10:00.0Z").plusSeconds(i));
+            dateTimeWrapper.setLocalDate(LocalDate.parse("2016-09-10"));
+            dateTimeWrapperRepository.save(dateTimeWrapper);
+        }
+        dateTimeWrapperRepository.flush();
+    }
+
+    @Test
+    @MaxSqlStatements(2)
+    void testListsTheEntitiesWithTheirPageCount() throws Exception {
+        mockMvc
+            .perform(get(ENTITY_API_URL + "?page=0&size=2&sort=id"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].instant").exists());
+    }
+
+    @Test
+    @MaxSqlStatements(1)
+    void testListsTheRequestedFieldsInASingleStatement() throws Exception {
+        mockMvc
+            .perform(get(ENTITY_API_URL + "?fields=localDate&sort=id"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].localDate").value("2016-09-10"))
+            .andExpect(jsonPath("$[0].instant").doesNotExist());
+    }
+}
@@ -0,0 +1,43 @@
+package com.shaffaf.shaffafservice.config;
+
+import com.shaffaf.shaffafservice.repository.SparseFieldsetRepository;
+import com.shaffaf.shaffafservice.repository.timezone.DateTimeWrapper;
+import com.shaffaf.shaffafservice.repository.timezone.DateTimeWrapperRepository;
+import com.shaffaf.shaffafservice.web.rest.SparseFieldsetUtil;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class SqlStatementCountTestController {
+
+    private final SparseFieldsetRepository sparseFieldsetRepository;
+
+    private final DateTimeWrapperRepository dateTimeWrapperRepository;
+
+    public SqlStatementCountTestController(
+        SparseFieldsetRepository sparseFieldsetRepository,
+        DateTimeWrapperRepository dateTimeWrapperRepository
+    ) {
+        this.sparseFieldsetRepository = sparseFieldsetRepository;
+        this.dateTimeWrapperRepository = dateTimeWrapperRepository;
+    }
+
+    @GetMapping("/api/sql-statement-count-test/date-time-wrappers")
+    public List<?> getAllDateTimeWrappers(
+        @RequestParam(name = SparseFieldsetUtil.FIELDS_PARAMETER, required = false) String fields,
+        Pageable pageable
+    ) {
+        Set<String> requestedFields = SparseFieldsetUtil.parseFields(
+            fields,
+            sparseFieldsetRepository.getSelectableFields(DateTimeWrapper.class)
+        );
+        if (requestedFields.isEmpty()) {
+            return dateTimeWrapperRepository.findAll(pageable).getContent();
+        }
+        return sparseFieldsetRepository.findAll(DateTimeWrapper.class, requestedFields, null, pageable);
+    }
+}
@@ -0,0 +1,148 @@
+package com.shaffaf.shaffafservice.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Test class for the {@link CacheWarmup}.
+ */
+class CacheWarmupTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testWarmsUpRegionsInParallel() throws Exception {
+        CyclicBarrier bothRunning = new CyclicBarrier(2);
+        CacheWarmup cacheWarmup = new CacheWarmup(
+            List.of(warmer("UnitType", () -> await(bothRunning)), warmer("ExpenseType", () -> await(bothRunning))),
+            executor,
+            TIMEOUT,
+            () -> CompletableFuture.completedFuture(null)
+        );
+        assertThat(cacheWarmup.health().getStatus()).isEqualTo(Status.DOWN);
+
+        cacheWarmup.start().get(10, TimeUnit.SECONDS);
+
+        Health health = cacheWarmup.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("state", "done");
+        assertThat(health.getDetails().get("regions")).isEqualTo(Map.of("ExpenseType", "warmed", "UnitType", "warmed"));
+    }
+
+    @Test
+    void testWaitsForThePrecondition() throws Exception {
+        CompletableFuture<Void> migration = new CompletableFuture<>();
+        CountDownLatch warmedUp = new CountDownLatch(1);
+        CacheWarmup cacheWarmup = new CacheWarmup(List.of(warmer("UnitType", warmedUp::countDown)), executor, TIMEOUT, () -> migration);
+
+        CompletableFuture<Void> warmup = cacheWarmup.start();
+
+        assertThat(warmedUp.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(cacheWarmup.health().getStatus()).isEqualTo(Status.DOWN);
+        migration.complete(null);
+        warmup.get(10, TimeUnit.SECONDS);
+        assertThat(cacheWarmup.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void testIsReadyWhenTimedOut() throws Exception {
+        CountDownLatch never = new CountDownLatch(1);
+        CacheWarmup cacheWarmup = new CacheWarmup(
+            List.of(warmer("UnitType", () -> await(never)), warmer("ExpenseType", () -> {})),
+            executor,
+            Duration.ofMillis(100),
+            () -> CompletableFuture.completedFuture(null)
+        );
+
+        cacheWarmup.start().get(10, TimeUnit.SECONDS);
+
+        Health health = cacheWarmup.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("state", "timed-out");
+        assertThat(health.getDetails().get("regions")).isEqualTo(Map.of("ExpenseType", "warmed", "UnitType", "pending"));
+    }
+
+    @Test
+    void testIsReadyWhenRegionFails() throws Exception {
+        CacheWarmup cacheWarmup = new CacheWarmup(
+            List.of(
+                warmer("UnitType", () -> {
+                    throw new IllegalStateException("Database unavailable");
+                })
+            ),
+            executor,
+            TIMEOUT,
+            () -> CompletableFuture.completedFuture(null)
+        );
+
+        cacheWarmup.start().get(10, TimeUnit.SECONDS);
+
+        Health health = cacheWarmup.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails().get("regions")).isEqualTo(Map.of("UnitType", "failed"));
+    }
+
+    @Test
+    void testIsReadyWhenDisabled() {
+        CacheWarmup cacheWarmup = new CacheWarmup(List.of(warmer("UnitType", () -> {})), executor, null, CompletableFuture::new);
+
+        assertThat(cacheWarmup.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(cacheWarmup.start()).isCompleted();
+    }
+
+    private static CacheWarmer warmer(String region, Runnable warmUp) {
+        return new CacheWarmer() {
+            @Override
+            public String getRegion() {
+                return region;
+            }
+
+            @Override
+            public void warmUp() {
+                warmUp.run();
+            }
+        };
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.shaffaf.shaffafservice.management;
+
+import static com.shaffaf.shaffafservice.config.HazelcastTestUtils.newStandaloneInstance;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link HazelcastCacheMeters}.
+ */
+class HazelcastCacheMetersTest {
+
+    private static HazelcastInstance hazelcastInstance;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void startHazelcast() {
+        hazelcastInstance = newStandaloneInstance("hazelcast-cache-meters-test");
+    }
+
+    @AfterAll
+    static void stopHazelcast() {
+        hazelcastInstance.shutdown();
+    }
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testBindsExistingMapsByRegion() {
+        IMap<String, String> map = hazelcastInstance.getMap("com.shaffaf.shaffafservice.domain.Existing");
+        map.put("key", "value");
+        map.get("key");
+        map.get("missing");
+
+        new HazelcastCacheMeters(hazelcastInstance, "cacheManager").bindTo(meterRegistry);
+
+        assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("name", "com.shaffaf.shaffafservice.domain.Existing")
+                .tag("cache.manager", "cacheManager")
+                .tag("result", "hit")
+                .functionCounter()
+                .count()
+        ).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.puts").tag("name", "com.shaffaf.shaffafservice.domain.Existing").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.entries").tag("name", "com.shaffaf.shaffafservice.domain.Existing").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void testBindsMapsCreatedAfterStartup() {
+        new HazelcastCacheMeters(hazelcastInstance, "cacheManager").bindTo(meterRegistry);
+
+        hazelcastInstance.getMap("created").put("key", "value");
+
+        await()
+            .atMost(Duration.ofSeconds(10))
+            .untilAsserted(() ->
+                assertThat(meterRegistry.get("cache.puts").tag("name", "created").functionCounter().count()).isEqualTo(1)
+            );
+    }
+
+    @Test
+    void testRemovesMetersOfDestroyedMaps() {
+        new HazelcastCacheMeters(hazelcastInstance, "cacheManager").bindTo(meterRegistry);
+        IMap<String, String> map = hazelcastInstance.getMap("destroyed");
+        await().atMost(Duration.ofSeconds(10)).until(() -> meterRegistry.find("cache.puts").tag("name", "destroyed").functionCounter() != null);
+
+        map.destroy();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> meterRegistry.find("cache.puts").tag("name", "destroyed").meters().isEmpty());
+    }
+
+    @Test
+    void testKeepsOtherMetersOfDestroyedMaps() {
+        Counter springCacheCounter = meterRegistry.counter("cache.removals", "name", "shared", "cache.manager", "cacheManager");
+        new HazelcastCacheMeters(hazelcastInstance, "cacheManager").bindTo(meterRegistry);
+        IMap<String, String> map = hazelcastInstance.getMap("shared");
+        await().atMost(Duration.ofSeconds(10)).until(() -> meterRegistry.find("cache.puts").tag("name", "shared").functionCounter() != null);
+
+        map.destroy();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> meterRegistry.find("cache.puts").tag("name", "shared").meters().isEmpty());
+        assertThat(meterRegistry.find("cache.removals").tag("name", "shared").counter()).isSameAs(springCacheCounter);
+    }
+}
@@ -4,8 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +15,12 @@ class SecurityMetersServiceTests {
 
     private static final String INVALID_TOKENS_METER_EXPECTED_NAME = "security.authentication.invalid-tokens";
 
+    private static final String TOKEN_DECODE_METER_EXPECTED_NAME = "security.authentication.token-decode";
+
+    private static final String JWT_CACHE_METER_EXPECTED_NAME = "security.authentication.jwt-cache";
+
+    private static final String JWT_CACHE_EVICTIONS_METER_EXPECTED_NAME = "security.authentication.jwt-cache.evictions";
+
     private MeterRegistry meterRegistry;
 
     private SecurityMetersService securityMetersService;
@@ -67,4 +75,36 @@ class SecurityMetersServiceTests {
 
         assertThat(meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", "malformed").counter().count()).isEqualTo(1);
     }
+
+    @Test
+    void testTokenDecodeTimersByOutcomeAreCreated() {
+        Collection<Timer> timers = meterRegistry.find(TOKEN_DECODE_METER_EXPECTED_NAME).timers();
+
+        assertThat(timers).hasSize(JwtDecodeOutcome.values().length);
+    }
+
+    @Test
+    void testTrackTokenDecodeShouldBeBoundToCorrectTimer() {
+        securityMetersService.trackTokenDecode(JwtDecodeOutcome.EXPIRED, 1_000_000);
+
+        Timer timer = meterRegistry.get(TOKEN_DECODE_METER_EXPECTED_NAME).tag("outcome", "expired").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1);
+        assertThat(meterRegistry.get(TOKEN_DECODE_METER_EXPECTED_NAME).tag("outcome", "success").timer().count()).isZero();
+    }
+
+    @Test
+    void testJwtCacheCountersAreBoundToCorrectCounters() {
+        securityMetersService.trackJwtCacheHit();
+        securityMetersService.trackJwtCacheHit();
+        securityMetersService.trackJwtCacheMiss();
+        securityMetersService.trackJwtCacheSizeEviction();
+        securityMetersService.trackJwtCacheExpiredEviction();
+        securityMetersService.trackJwtCacheExpiredEviction();
+
+        assertThat(meterRegistry.get(JWT_CACHE_METER_EXPECTED_NAME).tag("result", "hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(JWT_CACHE_METER_EXPECTED_NAME).tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(JWT_CACHE_EVICTIONS_METER_EXPECTED_NAME).tag("cause", "size").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(JWT_CACHE_EVICTIONS_METER_EXPECTED_NAME).tag("cause", "expired").counter().count()).isEqualTo(2);
+    }
 }
@@ -0,0 +1,67 @@
+package com.shaffaf.shaffafservice.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link TaskExecutorMetersDecorator}.
+ */
+class TaskExecutorMetersDecoratorTest {
+
+    private MeterRegistry meterRegistry;
+
+    private TaskExecutorMetersDecorator decorator;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        decorator = new TaskExecutorMetersDecorator(meterRegistry, "taskExecutor", "virtual", 50);
+    }
+
+    @Test
+    void testGaugesTrackPendingAndActiveTasks() {
+        double[] activeWhileRunning = new double[1];
+        Runnable task = decorator.decorate(() -> activeWhileRunning[0] = gauge(TaskExecutorMetersDecorator.ACTIVE_TASKS_METER_NAME));
+
+        assertThat(gauge(TaskExecutorMetersDecorator.PENDING_TASKS_METER_NAME)).isEqualTo(1);
+        task.run();
+
+        assertThat(activeWhileRunning[0]).isEqualTo(1);
+        assertThat(gauge(TaskExecutorMetersDecorator.PENDING_TASKS_METER_NAME)).isZero();
+        assertThat(gauge(TaskExecutorMetersDecorator.ACTIVE_TASKS_METER_NAME)).isZero();
+        assertThat(gauge(TaskExecutorMetersDecorator.CONCURRENCY_LIMIT_METER_NAME)).isEqualTo(50);
+        assertThat(meterRegistry.get(TaskExecutorMetersDecorator.QUEUE_WAIT_METER_NAME).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testActiveTasksAreReleasedOnFailure() {
+        Runnable task = decorator.decorate(() -> {
+            throw new IllegalStateException();
+        });
+
+        assertThatThrownBy(task::run).isInstanceOf(IllegalStateException.class);
+
+        assertThat(gauge(TaskExecutorMetersDecorator.ACTIVE_TASKS_METER_NAME)).isZero();
+    }
+
+    @Test
+    void testDiscardedTasksLeavePendingOnce() {
+        Runnable task = decorator.decorate(() -> {});
+
+        decorator.discard(task);
+        decorator.discard(task);
+        task.run();
+        decorator.discard(() -> {});
+
+        assertThat(gauge(TaskExecutorMetersDecorator.PENDING_TASKS_METER_NAME)).isZero();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("executor", "taskExecutor").tag("threads", "virtual").gauge().value();
+    }
+}
@@ -0,0 +1,62 @@
+package com.shaffaf.shaffafservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.shaffaf.shaffafservice.IntegrationTest;
+import com.shaffaf.shaffafservice.config.MaxSqlStatements;
+import com.shaffaf.shaffafservice.repository.timezone.DateTimeWrapper;
+import com.shaffaf.shaffafservice.repository.timezone.DateTimeWrapperRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link SparseFieldsetRepository}.
+ */
+@IntegrationTest
+@Transactional
+class SparseFieldsetRepositoryIT {
+
+    @Autowired
+    private SparseFieldsetRepository sparseFieldsetRepository;
+
+    @Autowired
+    private DateTimeWrapperRepository dateTimeWrapperRepository;
+
+    private DateTimeWrapper dateTimeWrapper;
+
+    @BeforeEach
+    void setup() {
+        dateTimeWrapperRepository.deleteAll();
+        dateTimeWrapper = new DateTimeWrapper();
+        dateTimeWrapper.setInstant(Instant.parse("2014-11-12T05:10:00.0Z"));
+        dateTimeWrapper.setLocalDate(LocalDate.parse("2016-09-10"));
+        dateTimeWrapperRepository.saveAndFlush(dateTimeWrapper);
+    }
+
+    @Test
+    void testSelectableFieldsAreTheBasicAttributes() {
+        assertThat(sparseFieldsetRepository.getSelectableFields(DateTimeWrapper.class)).contains("id", "instant", "localDate");
+    }
+
+    @Test
+    @MaxSqlStatements(1)
+    void testFindsOnlyTheRequestedFields() {
+        List<Map<String, Object>> entities = sparseFieldsetRepository.findAll(
+            DateTimeWrapper.class,
+            List.of("id", "localDate"),
+            (root, query, criteriaBuilder) -> criteriaBuilder.isNotNull(root.get("instant")),
+            PageRequest.of(0, 20, Sort.by("id"))
+        );
+
+        assertThat(entities).containsExactly(Map.of("id", dateTimeWrapper.getId(), "localDate", LocalDate.parse("2016-09-10")));
+        assertThat(entities.get(0).keySet()).containsExactly("id", "localDate");
+    }
+}
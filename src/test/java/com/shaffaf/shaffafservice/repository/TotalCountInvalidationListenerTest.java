@@ -0,0 +1,94 @@
+package com.shaffaf.shaffafservice.repository;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link TotalCountInvalidationListener}.
+ */
+class TotalCountInvalidationListenerTest {
+
+    private final TotalCounter totalCounter = mock(TotalCounter.class);
+
+    private final TotalCountInvalidationListener listener = new TotalCountInvalidationListener(() -> totalCounter);
+
+    @BeforeEach
+    void setup() {
+        when(totalCounter.hasCachedCounts(FeesCollection.class)).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void teardown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testInvalidatesOncePerEntityTypeAfterCommit() {
+        listener.onPostInsert(insertEvent(FeesCollection.class));
+        listener.onPostInsert(insertEvent(FeesCollection.class));
+        listener.onPostDelete(deleteEvent(FeesCollection.class));
+        verify(totalCounter, never()).invalidate(FeesCollection.class);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(totalCounter, times(1)).invalidate(FeesCollection.class);
+    }
+
+    @Test
+    void testDoesNotInvalidateEntitiesWithoutCachedCounts() {
+        listener.onPostInsert(insertEvent(Complain.class));
+        listener.onPostDelete(deleteEvent(Complain.class));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(totalCounter, never()).invalidate(Complain.class);
+    }
+
+    @Test
+    void testDoesNotInvalidateOnRollback() {
+        listener.onPostInsert(insertEvent(FeesCollection.class));
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(totalCounter, never()).invalidate(FeesCollection.class);
+    }
+
+    private static PostInsertEvent insertEvent(Class<?> entityClass) {
+        PostInsertEvent event = mock(PostInsertEvent.class);
+        EntityPersister persister = persister(entityClass);
+        when(event.getPersister()).thenReturn(persister);
+        return event;
+    }
+
+    private static PostDeleteEvent deleteEvent(Class<?> entityClass) {
+        PostDeleteEvent event = mock(PostDeleteEvent.class);
+        EntityPersister persister = persister(entityClass);
+        when(event.getPersister()).thenReturn(persister);
+        return event;
+    }
+
+    private static EntityPersister persister(Class<?> entityClass) {
+        EntityPersister persister = mock(EntityPersister.class);
+        doReturn(entityClass).when(persister).getMappedClass();
+        return persister;
+    }
+
+    private static class FeesCollection {}
+
+    private static class Complain {}
+}
@@ -0,0 +1,140 @@
+package com.shaffaf.shaffafservice.repository;
+
+import static com.shaffaf.shaffafservice.config.HazelcastTestUtils.newStandaloneInstance;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.hazelcast.core.HazelcastInstance;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Test class for the {@link TotalCounter}.
+ */
+class TotalCounterTest {
+
+    private static HazelcastInstance hazelcastInstance;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final AtomicLong countQueries = new AtomicLong();
+
+    private TotalCounter totalCounter;
+
+    @BeforeAll
+    static void startHazelcast() {
+        hazelcastInstance = newStandaloneInstance("total-counter-test");
+    }
+
+    @AfterAll
+    static void stopHazelcast() {
+        hazelcastInstance.shutdown();
+    }
+
+    @BeforeEach
+    void setup() {
+        totalCounter = new TotalCounter(
+            hazelcastInstance,
+            jdbcTemplate,
+            Duration.ofMinutes(1),
+            CountMode.EXACT,
+            Map.of("FeesCollection", CountMode.CACHED)
+        );
+        totalCounter.invalidate(FeesCollection.class);
+    }
+
+    @Test
+    void testDefaultModes() {
+        assertThat(totalCounter.getDefaultMode(FeesCollection.class)).isEqualTo(CountMode.CACHED);
+        assertThat(totalCounter.getDefaultMode(String.class)).isEqualTo(CountMode.EXACT);
+    }
+
+    @Test
+    void testExactCountRunsTheQueryEachTime() {
+        assertThat(totalCounter.count(CountMode.EXACT, FeesCollection.class, null, this::countQuery)).isEqualTo(42);
+        assertThat(totalCounter.count(CountMode.EXACT, FeesCollection.class, null, this::countQuery)).isEqualTo(42);
+
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    void testCachedCountRunsTheQueryOncePerScopeUntilInvalidated() {
+        assertThat(totalCounter.count(CountMode.CACHED, FeesCollection.class, "1", this::countQuery)).isEqualTo(42);
+        assertThat(totalCounter.count(CountMode.CACHED, FeesCollection.class, "1", this::countQuery)).isEqualTo(42);
+        totalCounter.count(CountMode.CACHED, FeesCollection.class, "2", this::countQuery);
+        assertThat(countQueries).hasValue(2);
+
+        totalCounter.invalidate(FeesCollection.class);
+        totalCounter.count(CountMode.CACHED, FeesCollection.class, "1", this::countQuery);
+
+        assertThat(countQueries).hasValue(3);
+    }
+
+    @Test
+    void testCachedCountOfAnExactEntityRunsTheQueryEachTime() {
+        assertThat(totalCounter.hasCachedCounts(FeesCollection.class)).isTrue();
+        assertThat(totalCounter.hasCachedCounts(Complain.class)).isFalse();
+
+        totalCounter.count(CountMode.CACHED, Complain.class, "1", this::countQuery);
+        totalCounter.count(CountMode.CACHED, Complain.class, "1", this::countQuery);
+
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    void testEstimatedCountReadsTheTableStatistics() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("fees_collection"))).thenReturn(1_000_000L);
+
+        assertThat(totalCounter.count(CountMode.ESTIMATED, FeesCollection.class, null, this::countQuery)).isEqualTo(1_000_000L);
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    void testEstimatedCountFallsBackToTheQuery() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("fees_collection"))).thenReturn(-1L);
+        assertThat(totalCounter.count(CountMode.ESTIMATED, FeesCollection.class, null, this::countQuery)).isEqualTo(42);
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("fees_collection"))).thenThrow(
+            new DataAccessResourceFailureException("Database unavailable")
+        );
+        assertThat(totalCounter.count(CountMode.ESTIMATED, FeesCollection.class, null, this::countQuery)).isEqualTo(42);
+    }
+
+    @Test
+    void testLastPageIsNotCounted() {
+        Page<String> page = totalCounter.page(CountMode.EXACT, FeesCollection.class, null, List.of("a", "b"), PageRequest.of(1, 5), this::countQuery);
+
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    void testTableName() {
+        assertThat(TotalCounter.tableName(FeesCollection.class)).isEqualTo("fees_collection");
+        assertThat(TotalCounter.tableName(Complain.class)).isEqualTo("complaint");
+    }
+
+    private long countQuery() {
+        countQueries.incrementAndGet();
+        return 42;
+    }
+
+    private static class FeesCollection {}
+
+    @Table(name = "complaint")
+    private static class Complain {}
+}
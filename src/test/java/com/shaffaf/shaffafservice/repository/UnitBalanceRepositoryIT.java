@@ -0,0 +1,71 @@
+package com.shaffaf.shaffafservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.shaffaf.shaffafservice.IntegrationTest;
+import com.shaffaf.shaffafservice.domain.UnitBalance;
+import com.shaffaf.shaffafservice.domain.VersionedUnitBalance;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the upserts of the {@link UnitBalanceRepository}.
+ */
+@IntegrationTest
+@Transactional
+class UnitBalanceRepositoryIT {
+
+    private static final long UNIT_ID = 2_000_001L;
+
+    @Autowired
+    private UnitBalanceRepository unitBalanceRepository;
+
+    @Test
+    void testAddCreatesThenAddsToTheTotals() {
+        List<VersionedUnitBalance> created = unitBalanceRepository.addAll(
+            List.of(new UnitBalance(UNIT_ID, new BigDecimal("100.00"), BigDecimal.ZERO))
+        );
+        List<VersionedUnitBalance> added = unitBalanceRepository.addAll(
+            List.of(new UnitBalance(UNIT_ID, new BigDecimal("50.00"), new BigDecimal("30.00")))
+        );
+
+        assertThat(created).singleElement().satisfies(balance -> assertThat(balance.balance().dueAmount()).isEqualByComparingTo("100"));
+        VersionedUnitBalance written = added.get(0);
+        assertThat(written.balance().dueAmount()).isEqualByComparingTo("150");
+        assertThat(written.balance().collectedAmount()).isEqualByComparingTo("30");
+        assertThat(written.lastModifiedDate()).isAfter(created.get(0).lastModifiedDate());
+        assertThat(unitBalanceRepository.findVersionedById(UNIT_ID)).contains(written);
+    }
+
+    @Test
+    void testSaveReplacesTheTotals() {
+        List<VersionedUnitBalance> added = unitBalanceRepository.addAll(
+            List.of(new UnitBalance(UNIT_ID, new BigDecimal("100.00"), new BigDecimal("10.00")))
+        );
+        List<VersionedUnitBalance> saved = unitBalanceRepository.saveAll(
+            List.of(new UnitBalance(UNIT_ID, new BigDecimal("80.00"), new BigDecimal("80.00")))
+        );
+
+        VersionedUnitBalance written = saved.get(0);
+        assertThat(written.balance().balance()).isZero();
+        assertThat(written.isAtLeastAsRecentAs(added.get(0))).isTrue();
+        assertThat(added.get(0).isAtLeastAsRecentAs(written)).isFalse();
+        assertThat(unitBalanceRepository.findById(UNIT_ID)).contains(written.balance());
+    }
+
+    @Test
+    void testUpsertsMoreUnitsThanAStatementHolds() {
+        List<UnitBalance> amounts = LongStream.range(UNIT_ID, UNIT_ID + 60)
+            .mapToObj(unitId -> new UnitBalance(unitId, BigDecimal.TEN, BigDecimal.ZERO))
+            .toList();
+
+        assertThat(unitBalanceRepository.addAll(amounts)).hasSize(60);
+        assertThat(unitBalanceRepository.addAll(amounts))
+            .extracting(balance -> balance.balance().dueAmount())
+            .allSatisfy(dueAmount -> assertThat(dueAmount).isEqualByComparingTo("20"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.shaffaf.shaffafservice.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.SerializationUtils;
+
+/**
+ * Test class for the {@link AuthoritySet}.
+ */
+class AuthoritySetTest {
+
+    @Test
+    void testKnownAuthorities() {
+        AuthoritySet authoritySet = AuthoritySet.of(
+            List.of(new SimpleGrantedAuthority(AuthoritiesConstants.ADMIN), new SimpleGrantedAuthority(AuthoritiesConstants.USER))
+        );
+
+        assertThat(authoritySet.contains(AuthoritiesConstants.ADMIN)).isTrue();
+        assertThat(authoritySet.contains(AuthoritiesConstants.USER)).isTrue();
+        assertThat(authoritySet.contains(AuthoritiesConstants.ANONYMOUS)).isFalse();
+        assertThat(authoritySet.contains("ROLE_AUDITOR")).isFalse();
+        assertThat(authoritySet.contains(null)).isFalse();
+    }
+
+    @Test
+    void testOtherAuthorities() {
+        AuthoritySet authoritySet = AuthoritySet.of(
+            List.of(new SimpleGrantedAuthority(AuthoritiesConstants.USER), new SimpleGrantedAuthority("ROLE_AUDITOR"))
+        );
+
+        assertThat(authoritySet.contains("ROLE_AUDITOR")).isTrue();
+        assertThat(authoritySet.contains("ROLE_OTHER")).isFalse();
+        assertThat(authoritySet.containsAny(AuthoritiesConstants.ADMIN, "ROLE_AUDITOR")).isTrue();
+        assertThat(authoritySet.containsAny(AuthoritiesConstants.ADMIN, AuthoritiesConstants.ANONYMOUS)).isFalse();
+        assertThat(authoritySet.containsAny()).isFalse();
+    }
+
+    @Test
+    void testKnownAuthoritiesAreInterned() {
+        AuthoritySet first = AuthoritySet.of(List.of(new SimpleGrantedAuthority(AuthoritiesConstants.USER)));
+        AuthoritySet second = AuthoritySet.of(
+            List.of(new SimpleGrantedAuthority(AuthoritiesConstants.USER), new SimpleGrantedAuthority(AuthoritiesConstants.USER))
+        );
+
+        assertThat(second).isSameAs(first);
+        assertThat(AuthoritySet.of(List.of())).isSameAs(AuthoritySet.of(List.of()));
+        assertThat(SerializationUtils.clone(first)).isSameAs(first);
+    }
+}
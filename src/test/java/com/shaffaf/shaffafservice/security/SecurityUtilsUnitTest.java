@@ -2,7 +2,9 @@ package com.shaffaf.shaffafservice.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.shaffaf.shaffafservice.security.jwt.AuthoritySetJwtAuthenticationToken;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +13,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
 
 /**
  * Test class for the {@link SecurityUtils} utility class.
@@ -92,4 +95,31 @@ class SecurityUtilsUnitTest {
         assertThat(SecurityUtils.hasCurrentUserNoneOfAuthorities(AuthoritiesConstants.USER, AuthoritiesConstants.ADMIN)).isFalse();
         assertThat(SecurityUtils.hasCurrentUserNoneOfAuthorities(AuthoritiesConstants.ANONYMOUS, AuthoritiesConstants.ADMIN)).isTrue();
     }
+
+    @Test
+    void testAuthoritySetChecks() {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", SecurityUtils.JWT_ALGORITHM.getName()).subject("user").build();
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        var authorities = List.of(new SimpleGrantedAuthority(AuthoritiesConstants.USER), new SimpleGrantedAuthority("ROLE_AUDITOR"));
+        securityContext.setAuthentication(new AuthoritySetJwtAuthenticationToken(jwt, authorities, "user"));
+        SecurityContextHolder.setContext(securityContext);
+
+        assertThat(SecurityUtils.isAuthenticated()).isTrue();
+        assertThat(SecurityUtils.hasCurrentUserThisAuthority(AuthoritiesConstants.USER)).isTrue();
+        assertThat(SecurityUtils.hasCurrentUserThisAuthority("ROLE_AUDITOR")).isTrue();
+        assertThat(SecurityUtils.hasCurrentUserThisAuthority(AuthoritiesConstants.ADMIN)).isFalse();
+        assertThat(SecurityUtils.hasCurrentUserAnyOfAuthorities(AuthoritiesConstants.ADMIN, "ROLE_AUDITOR")).isTrue();
+        assertThat(SecurityUtils.hasCurrentUserNoneOfAuthorities(AuthoritiesConstants.ADMIN, AuthoritiesConstants.ANONYMOUS)).isTrue();
+    }
+
+    @Test
+    void testAnonymousAuthoritySetIsNotAuthenticated() {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", SecurityUtils.JWT_ALGORITHM.getName()).subject("anonymous").build();
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        var authorities = Collections.singletonList(new SimpleGrantedAuthority(AuthoritiesConstants.ANONYMOUS));
+        securityContext.setAuthentication(new AuthoritySetJwtAuthenticationToken(jwt, authorities, "anonymous"));
+        SecurityContextHolder.setContext(securityContext);
+
+        assertThat(SecurityUtils.isAuthenticated()).isFalse();
+    }
 }
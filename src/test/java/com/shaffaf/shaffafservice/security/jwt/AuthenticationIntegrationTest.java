@@ -1,5 +1,6 @@
 package com.shaffaf.shaffafservice.security.jwt;
 
+import com.shaffaf.shaffafservice.config.ApplicationProperties;
 import com.shaffaf.shaffafservice.config.SecurityConfiguration;
 import com.shaffaf.shaffafservice.config.SecurityJwtConfiguration;
 import com.shaffaf.shaffafservice.config.WebConfigurer;
@@ -16,6 +17,7 @@ import tech.jhipster.config.JHipsterProperties;
 @SpringBootTest(
     classes = {
         JHipsterProperties.class,
+        ApplicationProperties.class,
         WebConfigurer.class,
         SecurityConfiguration.class,
         SecurityJwtConfiguration.class,
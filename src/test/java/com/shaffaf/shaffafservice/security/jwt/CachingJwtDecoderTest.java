@@ -0,0 +1,182 @@
+package com.shaffaf.shaffafservice.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.shaffaf.shaffafservice.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Test class for the {@link CachingJwtDecoder}.
+ */
+class CachingJwtDecoderTest {
+
+    private static final String JWT_CACHE_METER_EXPECTED_NAME = "security.authentication.jwt-cache";
+
+    private static final String TOKEN_DECODE_METER_EXPECTED_NAME = "security.authentication.token-decode";
+
+    private static final String JWT_CACHE_EVICTIONS_METER_EXPECTED_NAME = "security.authentication.jwt-cache.evictions";
+
+    private final FakeTime time = new FakeTime();
+
+    private MeterRegistry meterRegistry;
+
+    private JwtDecoder delegate;
+
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = mock(JwtDecoder.class);
+        cachingJwtDecoder = new CachingJwtDecoder(
+            delegate,
+            new SecurityMetersService(meterRegistry),
+            2,
+            Duration.ofMinutes(10),
+            time.clock(),
+            time
+        );
+    }
+
+    @Test
+    void testVerifiedTokenIsDecodedOnce() {
+        Jwt jwt = jwtExpiringIn(Duration.ofMinutes(5));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        assertThat(cachingJwtDecoder.decode("token")).isSameAs(jwt);
+        assertThat(cachingJwtDecoder.decode("token")).isSameAs(jwt);
+
+        verify(delegate, times(1)).decode("token");
+        assertThat(meterRegistry.get(JWT_CACHE_METER_EXPECTED_NAME).tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(JWT_CACHE_METER_EXPECTED_NAME).tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCacheHitsAreTimed() {
+        when(delegate.decode("token")).thenReturn(jwtExpiringIn(Duration.ofMinutes(5)));
+
+        cachingJwtDecoder.decode("token");
+        cachingJwtDecoder.decode("token");
+        cachingJwtDecoder.decode("token");
+
+        assertThat(meterRegistry.get(TOKEN_DECODE_METER_EXPECTED_NAME).tag("outcome", "cached").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testEntryDoesNotOutliveTokenExpiration() {
+        when(delegate.decode("token")).thenReturn(jwtExpiringIn(Duration.ofMinutes(5)));
+        cachingJwtDecoder.decode("token");
+
+        time.advance(Duration.ofMinutes(5));
+        cachingJwtDecoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+        assertThat(meterRegistry.get(JWT_CACHE_EVICTIONS_METER_EXPECTED_NAME).tag("cause", "expired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testEntryDoesNotOutliveTimeToLive() {
+        when(delegate.decode("token")).thenReturn(jwtExpiringIn(Duration.ofHours(1)));
+        cachingJwtDecoder.decode("token");
+
+        time.advance(Duration.ofMinutes(10));
+        cachingJwtDecoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void testTokenWithoutExpirationIsNotCached() {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "HS512").subject("user").build();
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        cachingJwtDecoder.decode("token");
+        cachingJwtDecoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+        assertThat(cachingJwtDecoder.estimatedSize()).isZero();
+    }
+
+    @Test
+    void testInvalidTokenIsNotCached() {
+        when(delegate.decode(anyString())).thenThrow(new BadJwtException("Malformed token"));
+
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("invalid")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("invalid")).isInstanceOf(BadJwtException.class);
+
+        verify(delegate, times(2)).decode("invalid");
+        assertThat(cachingJwtDecoder.estimatedSize()).isZero();
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        for (int i = 0; i < 5; i++) {
+            when(delegate.decode("token" + i)).thenReturn(jwtExpiringIn(Duration.ofMinutes(5)));
+            cachingJwtDecoder.decode("token" + i);
+        }
+
+        assertThat(cachingJwtDecoder.estimatedSize()).isEqualTo(2);
+        assertThat(meterRegistry.get(JWT_CACHE_EVICTIONS_METER_EXPECTED_NAME).tag("cause", "size").counter().count()).isEqualTo(3);
+    }
+
+    private Jwt jwtExpiringIn(Duration duration) {
+        Instant now = time.clock().instant();
+        return Jwt.withTokenValue("token").header("alg", "HS512").subject("user").issuedAt(now).expiresAt(now.plus(duration)).build();
+    }
+
+    /**
+     * Keeps the wall clock and the cache ticker in sync.
+     */
+    private static final class FakeTime implements Ticker {
+
+        private final Instant start = Instant.parse("2024-01-01T00:00:00Z");
+
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(Duration duration) {
+            nanos += duration.toNanos();
+        }
+
+        Clock clock() {
+            return new Clock() {
+                @Override
+                public ZoneId getZone() {
+                    return ZoneOffset.UTC;
+                }
+
+                @Override
+                public Clock withZone(ZoneId zone) {
+                    return this;
+                }
+
+                @Override
+                public Instant instant() {
+                    return start.plusNanos(nanos);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.shaffaf.shaffafservice.security.jwt;
+
+import static com.shaffaf.shaffafservice.security.SecurityUtils.JWT_ALGORITHM;
+import static com.shaffaf.shaffafservice.security.jwt.JwtAuthenticationTestUtils.createExpiredToken;
+import static com.shaffaf.shaffafservice.security.jwt.JwtAuthenticationTestUtils.createInvalidToken;
+import static com.shaffaf.shaffafservice.security.jwt.JwtAuthenticationTestUtils.createSignedInvalidJwt;
+import static com.shaffaf.shaffafservice.security.jwt.JwtAuthenticationTestUtils.createTokenWithDifferentSignature;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.nimbusds.jose.util.Base64;
+import com.nimbusds.jose.util.Base64URL;
+import com.shaffaf.shaffafservice.management.JwtDecodeOutcome;
+import java.util.List;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+/**
+ * Test class for the {@link JwtFailureClassifier} classification of the {@link NimbusJwtDecoder} failures.
+ */
+class JwtFailureClassifierTest {
+
+    private static final String JWT_KEY =
+        "NGVjOWE3ZDI2MDIyMWZiMzQ1NGUxNjM1OTcxMjIzOTBjYThkYmY0NTZmYjlmM2QwMTIyZGRlZmYxYjljYzkzZTdkNjE2ODczYzQyMzVkNzk5YTQ3ZDA2MjExMzZhYzljMDkzZTU4ZDFiNzlkOTU1NTc0YTk2MGVjYmI4NjAwZWE=";
+
+    private NimbusJwtDecoder jwtDecoder;
+
+    @BeforeEach
+    void setup() {
+        byte[] keyBytes = Base64.from(JWT_KEY).decode();
+        jwtDecoder = NimbusJwtDecoder.withSecretKey(new SecretKeySpec(keyBytes, 0, keyBytes.length, JWT_ALGORITHM.getName()))
+            .macAlgorithm(JWT_ALGORITHM)
+            .build();
+        jwtDecoder.setJwtValidator(new TypedJwtValidator(JwtValidators.createDefault()));
+    }
+
+    @Test
+    void testExpiredToken() {
+        assertThat(JwtFailureClassifier.classify(decodingFailure(createExpiredToken(JWT_KEY)))).isEqualTo(JwtDecodeOutcome.EXPIRED);
+    }
+
+    @Test
+    void testTokenWithDifferentSignature() {
+        assertThat(JwtFailureClassifier.classify(decodingFailure(createTokenWithDifferentSignature()))).isEqualTo(
+            JwtDecodeOutcome.INVALID_SIGNATURE
+        );
+    }
+
+    @Test
+    void testInvalidToken() {
+        assertThat(JwtFailureClassifier.classify(decodingFailure(createInvalidToken(JWT_KEY)))).isEqualTo(JwtDecodeOutcome.MALFORMED);
+    }
+
+    @Test
+    void testSignedInvalidJwt() throws Exception {
+        assertThat(JwtFailureClassifier.classify(decodingFailure(createSignedInvalidJwt(JWT_KEY)))).isEqualTo(JwtDecodeOutcome.MALFORMED);
+    }
+
+    @Test
+    void testUnsecuredToken() {
+        String header = Base64URL.encode("{\"alg\":\"none\"}").toString();
+        String payload = Base64URL.encode("{\"sub\":\"anonymous\"}").toString();
+
+        assertThat(JwtFailureClassifier.classify(decodingFailure(header + "." + payload + "."))).isEqualTo(JwtDecodeOutcome.UNSUPPORTED);
+    }
+
+    @Test
+    void testOtherValidationError() {
+        JwtValidationException exception = new JwtValidationException("Invalid issuer", List.of(new OAuth2Error("invalid_token")));
+
+        assertThat(JwtFailureClassifier.classify(exception)).isEqualTo(JwtDecodeOutcome.INVALID_CLAIMS);
+    }
+
+    @Test
+    void testExceptionsWithoutMessage() {
+        assertThat(JwtFailureClassifier.classify(new IllegalStateException())).isEqualTo(JwtDecodeOutcome.UNKNOWN);
+        assertThat(JwtFailureClassifier.classify(new BadJwtException(null, new IllegalStateException()))).isEqualTo(JwtDecodeOutcome.UNKNOWN);
+    }
+
+    private JwtException decodingFailure(String token) {
+        Throwable throwable = catchThrowable(() -> jwtDecoder.decode(token));
+        assertThat(throwable).isInstanceOf(JwtException.class);
+        return (JwtException) throwable;
+    }
+}
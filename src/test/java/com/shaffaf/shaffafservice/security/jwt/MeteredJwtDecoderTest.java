@@ -0,0 +1,68 @@
+package com.shaffaf.shaffafservice.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.nimbusds.jose.proc.BadJWSException;
+import com.shaffaf.shaffafservice.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+/**
+ * Test class for the {@link MeteredJwtDecoder}.
+ */
+class MeteredJwtDecoderTest {
+
+    private static final String INVALID_TOKENS_METER_EXPECTED_NAME = "security.authentication.invalid-tokens";
+
+    private static final String TOKEN_DECODE_METER_EXPECTED_NAME = "security.authentication.token-decode";
+
+    private MeterRegistry meterRegistry;
+
+    private JwtDecoder delegate;
+
+    private MeteredJwtDecoder meteredJwtDecoder;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = mock(JwtDecoder.class);
+        meteredJwtDecoder = new MeteredJwtDecoder(delegate, new SecurityMetersService(meterRegistry));
+    }
+
+    @Test
+    void testSuccessfulDecodeIsTimed() {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "HS512").subject("user").build();
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        assertThat(meteredJwtDecoder.decode("token")).isSameAs(jwt);
+
+        assertThat(meterRegistry.get(TOKEN_DECODE_METER_EXPECTED_NAME).tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testFailedDecodeIsTimedAndCounted() {
+        when(delegate.decode("token")).thenThrow(new BadJwtException("Signed JWT rejected", new BadJWSException("Invalid signature")));
+
+        assertThatThrownBy(() -> meteredJwtDecoder.decode("token")).isInstanceOf(BadJwtException.class);
+
+        assertThat(meterRegistry.get(TOKEN_DECODE_METER_EXPECTED_NAME).tag("outcome", "invalid-signature").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", "invalid-signature").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testFailureWithoutMessageIsRethrown() {
+        when(delegate.decode("token")).thenThrow(new IllegalStateException());
+
+        assertThatThrownBy(() -> meteredJwtDecoder.decode("token")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get(TOKEN_DECODE_METER_EXPECTED_NAME).tag("outcome", "unknown").timer().count()).isEqualTo(1);
+    }
+}
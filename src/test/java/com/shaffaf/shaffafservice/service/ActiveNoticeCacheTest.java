@@ -0,0 +1,120 @@
+package com.shaffaf.shaffafservice.service;
+
+import static com.shaffaf.shaffafservice.config.HazelcastTestUtils.newStandaloneInstance;
+import static com.shaffaf.shaffafservice.service.BeanProviderTestUtils.beanProvider;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.HazelcastInstance;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Test class for the {@link ActiveNoticeCache}.
+ */
+class ActiveNoticeCacheTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    private static HazelcastInstance hazelcastInstance;
+
+    private static ThreadPoolTaskScheduler scheduler;
+
+    private final List<NoticeWindow> notices = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ActiveNoticeCache activeNoticeCache;
+
+    @BeforeAll
+    static void startHazelcast() {
+        hazelcastInstance = newStandaloneInstance("active-notice-cache-test");
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+    }
+
+    @AfterAll
+    static void stopHazelcast() {
+        scheduler.shutdown();
+        hazelcastInstance.shutdown();
+    }
+
+    @BeforeEach
+    void setup() {
+        NoticeLoader loader = projectId -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(notices);
+        };
+        activeNoticeCache = new ActiveNoticeCache(
+            beanProvider(NoticeLoader.class, loader),
+            new ObjectMapper(),
+            hazelcastInstance,
+            scheduler
+        );
+    }
+
+    @AfterEach
+    void teardown() {
+        activeNoticeCache.destroy();
+    }
+
+    private static String body(CachedJson cachedJson) {
+        return new String(cachedJson.body(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testDisplayedNoticesAreSerializedOnce() {
+        Instant now = Instant.now();
+        notices.add(new NoticeWindow(Map.of("title", "Water cut"), now.minusSeconds(60), null));
+        notices.add(new NoticeWindow(Map.of("title", "Elections"), now.plusSeconds(3600), now.plusSeconds(7200)));
+        notices.add(new NoticeWindow(Map.of("title", "Old"), now.minusSeconds(7200), now.minusSeconds(3600)));
+
+        CachedJson first = activeNoticeCache.getActiveNotices(PROJECT_ID);
+        CachedJson second = activeNoticeCache.getActiveNotices(PROJECT_ID);
+
+        assertThat(body(first)).isEqualTo("[{\"title\":\"Water cut\"}]");
+        assertThat(second).isSameAs(first);
+        assertThat(first.eTag()).startsWith("\"").endsWith("\"");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testNoticesFlipAtTheWindowBoundaries() {
+        Instant now = Instant.now();
+        notices.add(new NoticeWindow(Map.of("title", "Water cut"), now.plusSeconds(1), now.plusSeconds(2)));
+
+        CachedJson before = activeNoticeCache.getActiveNotices(PROJECT_ID);
+        assertThat(body(before)).isEqualTo("[]");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> body(activeNoticeCache.getActiveNotices(PROJECT_ID)).contains("Water cut"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> body(activeNoticeCache.getActiveNotices(PROJECT_ID)).equals("[]"));
+        assertThat(activeNoticeCache.getActiveNotices(PROJECT_ID).eTag()).isEqualTo(before.eTag());
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testNoticesAreReloadedOnInvalidation() {
+        notices.add(new NoticeWindow(Map.of("title", "Water cut"), Instant.now().minusSeconds(60), null));
+        String eTag = activeNoticeCache.getActiveNotices(PROJECT_ID).eTag();
+        notices.add(new NoticeWindow(Map.of("title", "Elections"), Instant.now().minusSeconds(60), null));
+
+        activeNoticeCache.invalidate(PROJECT_ID);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> !activeNoticeCache.getActiveNotices(PROJECT_ID).eTag().equals(eTag));
+        assertThat(body(activeNoticeCache.getActiveNotices(PROJECT_ID))).contains("Water cut", "Elections");
+        assertThat(loads).hasValue(2);
+    }
+}
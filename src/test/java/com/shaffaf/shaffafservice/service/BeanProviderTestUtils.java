@@ -0,0 +1,32 @@
+package com.shaffaf.shaffafservice.service;
+
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * Providers of the optional beans of the services, such as their loaders, without an application context.
+ */
+public final class BeanProviderTestUtils {
+
+    private BeanProviderTestUtils() {}
+
+    /**
+     * @param type the type of the bean.
+     * @param bean the bean.
+     * @param <T> the type of the bean.
+     * @return a provider of the bean.
+     */
+    public static <T> ObjectProvider<T> beanProvider(Class<T> type, T bean) {
+        return new StaticListableBeanFactory(Map.of(type.getSimpleName(), bean)).getBeanProvider(type);
+    }
+
+    /**
+     * @param type the type of the bean.
+     * @param <T> the type of the bean.
+     * @return a provider of no bean.
+     */
+    public static <T> ObjectProvider<T> noBeanProvider(Class<T> type) {
+        return new StaticListableBeanFactory().getBeanProvider(type);
+    }
+}
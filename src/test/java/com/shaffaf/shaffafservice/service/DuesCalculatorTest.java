@@ -0,0 +1,62 @@
+package com.shaffaf.shaffafservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.shaffaf.shaffafservice.domain.UnitDue;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link DuesCalculator} utility class.
+ */
+class DuesCalculatorTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 10);
+
+    private static final List<BlockDuesInput.Unit> UNITS = List.of(new BlockDuesInput.Unit(1L, 10L), new BlockDuesInput.Unit(2L, 20L));
+
+    private static final List<BlockDuesInput.Fee> FEES = List.of(
+        new BlockDuesInput.Fee(null, new BigDecimal("1000")),
+        new BlockDuesInput.Fee(10L, new BigDecimal("500"))
+    );
+
+    private static final BlockDuesInput INPUT = new BlockDuesInput(1L, 1L, UNITS, FEES);
+
+    @Test
+    void testFeesOfTheUnitTypeAndOfAllTypesAreCharged() {
+        List<UnitDue> unitDues = DuesCalculator.calculate(INPUT, List.of(), MONTH);
+
+        assertThat(unitDues).containsExactly(
+            new UnitDue(1L, MONTH, new BigDecimal("1500.00")),
+            new UnitDue(2L, MONTH, new BigDecimal("1000.00"))
+        );
+    }
+
+    @Test
+    void testPercentageDiscountsApplyBeforeFixedDiscounts() {
+        List<ProjectDiscountWindow> discounts = List.of(
+            discount(null, new BigDecimal("100")),
+            discount(new BigDecimal("12.5"), null)
+        );
+
+        List<UnitDue> unitDues = DuesCalculator.calculate(INPUT, discounts, MONTH);
+
+        assertThat(unitDues).extracting(UnitDue::amount).containsExactly(new BigDecimal("1212.50"), new BigDecimal("775.00"));
+    }
+
+    @Test
+    void testDuesAreNeverNegative() {
+        List<ProjectDiscountWindow> discounts = List.of(discount(null, new BigDecimal("1200")));
+
+        List<UnitDue> unitDues = DuesCalculator.calculate(INPUT, discounts, MONTH);
+
+        assertThat(unitDues).extracting(UnitDue::amount).containsExactly(new BigDecimal("300.00"), new BigDecimal("0.00"));
+    }
+
+    private static ProjectDiscountWindow discount(BigDecimal percentage, BigDecimal amount) {
+        return new ProjectDiscountWindow(1L, Instant.parse("2026-01-01T00:00:00Z"), null, percentage, amount);
+    }
+}
@@ -0,0 +1,102 @@
+package com.shaffaf.shaffafservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.shaffaf.shaffafservice.IntegrationTest;
+import com.shaffaf.shaffafservice.domain.UnitBalance;
+import com.shaffaf.shaffafservice.repository.UnitBalanceRepository;
+import com.shaffaf.shaffafservice.repository.UnitDueJdbcRepository;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for the {@link DuesGenerationService}, writing to the database in the transactions of its blocks.
+ */
+@IntegrationTest
+class DuesGenerationServiceIT {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 10);
+
+    private static final Long BLOCK_ID = 1L;
+
+    // More units than the rows of an insert statement, so that the dues are inserted by several statements
+    private static final int UNIT_COUNT = 30;
+
+    private static final long FIRST_UNIT_ID = 1_000_001L;
+
+    @Autowired
+    private DuesGenerationService duesGenerationService;
+
+    @Autowired
+    private UnitDueJdbcRepository unitDueJdbcRepository;
+
+    @Autowired
+    private UnitBalanceRepository unitBalanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM unit_due WHERE unit_id >= ?", FIRST_UNIT_ID);
+        jdbcTemplate.update("DELETE FROM unit_balance WHERE unit_id >= ?", FIRST_UNIT_ID);
+    }
+
+    @Test
+    void testGeneratingTheSameMonthTwiceCreatesTheDuesOnce() {
+        DuesGenerationResult first = duesGenerationService.generate(MONTH);
+
+        assertThat(first.failedBlockIds()).isEmpty();
+        assertThat(first.dues()).isEqualTo(UNIT_COUNT);
+        assertThat(first.createdDues()).isEqualTo(UNIT_COUNT);
+
+        DuesGenerationResult second = duesGenerationService.generate(MONTH);
+
+        assertThat(second.failedBlockIds()).isEmpty();
+        assertThat(second.dues()).isEqualTo(UNIT_COUNT);
+        assertThat(second.createdDues()).isZero();
+
+        Map<Long, BigDecimal> amounts = unitDueJdbcRepository.sumAmountsByUnit();
+        UnitBalance balance = unitBalanceRepository.findById(FIRST_UNIT_ID).orElseThrow();
+        assertThat(amounts.get(FIRST_UNIT_ID)).isEqualByComparingTo(BigDecimal.TEN);
+        assertThat(balance.dueAmount()).isEqualByComparingTo(BigDecimal.TEN);
+    }
+
+    @TestConfiguration
+    static class DuesInputConfiguration {
+
+        @Bean
+        DuesInputLoader duesInputLoader() {
+            return new DuesInputLoader() {
+                @Override
+                public List<Long> findBlockIds(YearMonth month) {
+                    return List.of(BLOCK_ID);
+                }
+
+                @Override
+                public BlockDuesInput loadBlock(Long blockId, YearMonth month) {
+                    List<BlockDuesInput.Unit> units = LongStream.range(FIRST_UNIT_ID, FIRST_UNIT_ID + UNIT_COUNT)
+                        .mapToObj(unitId -> new BlockDuesInput.Unit(unitId, 1L))
+                        .toList();
+                    return new BlockDuesInput(blockId, 1L, units, List.of(new BlockDuesInput.Fee(null, BigDecimal.TEN)));
+                }
+            };
+        }
+
+        @Bean
+        ProjectDiscountLoader projectDiscountLoader() {
+            return projectId -> List.of();
+        }
+    }
+}
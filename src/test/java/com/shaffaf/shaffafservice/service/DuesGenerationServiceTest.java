@@ -0,0 +1,152 @@
+package com.shaffaf.shaffafservice.service;
+
+import static com.shaffaf.shaffafservice.service.BeanProviderTestUtils.beanProvider;
+import static com.shaffaf.shaffafservice.service.BeanProviderTestUtils.noBeanProvider;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.shaffaf.shaffafservice.config.ApplicationProperties;
+import com.shaffaf.shaffafservice.domain.UnitDue;
+import com.shaffaf.shaffafservice.management.DuesGenerationMeters;
+import com.shaffaf.shaffafservice.repository.UnitDueJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Test class for the {@link DuesGenerationService}.
+ */
+class DuesGenerationServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 10);
+
+    private static final Long FAILING_BLOCK_ID = 3L;
+
+    private static final Long PROJECT_ID = 7L;
+
+    private final UnitDueJdbcRepository unitDueJdbcRepository = mock(UnitDueJdbcRepository.class);
+
+    private final UnitBalanceService unitBalanceService = mock(UnitBalanceService.class);
+
+    private final ProjectDiscountIndex projectDiscountIndex = mock(ProjectDiscountIndex.class);
+
+    private final Set<String> loaderThreads = ConcurrentHashMap.newKeySet();
+
+    private MeterRegistry meterRegistry;
+
+    private DuesGenerationService duesGenerationService;
+
+    @BeforeEach
+    void setup() {
+        DuesInputLoader loader = new DuesInputLoader() {
+            @Override
+            public List<Long> findBlockIds(YearMonth month) {
+                return List.of(1L, 2L, FAILING_BLOCK_ID, 4L);
+            }
+
+            @Override
+            public BlockDuesInput loadBlock(Long blockId, YearMonth month) {
+                loaderThreads.add(Thread.currentThread().getName());
+                if (FAILING_BLOCK_ID.equals(blockId)) {
+                    throw new IllegalStateException("Block " + blockId + " has no fees");
+                }
+                return new BlockDuesInput(
+                    blockId,
+                    PROJECT_ID,
+                    List.of(new BlockDuesInput.Unit(blockId * 10, 1L), new BlockDuesInput.Unit(blockId * 10 + 1, 1L)),
+                    List.of(new BlockDuesInput.Fee(null, BigDecimal.TEN))
+                );
+            }
+        };
+        // The dues of the first unit of block 2 already exist
+        when(unitDueJdbcRepository.insertMissing(anyList())).thenAnswer(invocation -> {
+            List<UnitDue> unitDues = invocation.getArgument(0);
+            return unitDues.stream().filter(unitDue -> unitDue.unitId() != 20L).toList();
+        });
+        meterRegistry = new SimpleMeterRegistry();
+
+        duesGenerationService = new DuesGenerationService(
+            beanProvider(DuesInputLoader.class, loader),
+            unitDueJdbcRepository,
+            unitBalanceService,
+            projectDiscountIndex,
+            mock(PlatformTransactionManager.class),
+            new DuesGenerationMeters(meterRegistry),
+            new ApplicationProperties()
+        );
+    }
+
+    @Test
+    void testBlocksAreGeneratedOnTheBoundedPoolAndFailuresAreIsolated() {
+        DuesGenerationResult result = duesGenerationService.generate(MONTH);
+
+        assertThat(result.partitions()).isEqualTo(4);
+        assertThat(result.failedBlockIds()).containsExactly(FAILING_BLOCK_ID);
+        assertThat(result.dues()).isEqualTo(6);
+        assertThat(result.createdDues()).isEqualTo(5);
+        assertThat(loaderThreads).isNotEmpty().allMatch(name -> name.startsWith("dues-generation-"));
+    }
+
+    @Test
+    void testDiscountsAreResolvedOverTheMonth() {
+        when(
+            projectDiscountIndex.findOverlapping(
+                PROJECT_ID,
+                Instant.parse("2026-10-01T00:00:00Z"),
+                Instant.parse("2026-10-31T23:59:59.999999999Z")
+            )
+        ).thenReturn(List.of(new ProjectDiscountWindow(1L, Instant.parse("2026-10-15T00:00:00Z"), null, BigDecimal.TEN, null)));
+
+        duesGenerationService.generate(MONTH);
+
+        verify(unitBalanceService).recordDues(List.of(new UnitDue(21L, MONTH, new BigDecimal("9.00"))));
+    }
+
+    @Test
+    void testBalancesAreUpdatedWithTheCreatedDuesOnly() {
+        duesGenerationService.generate(MONTH);
+
+        verify(unitBalanceService).recordDues(List.of(new UnitDue(21L, MONTH, new BigDecimal("10.00"))));
+        verify(unitBalanceService).recordDues(
+            List.of(new UnitDue(10L, MONTH, new BigDecimal("10.00")), new UnitDue(11L, MONTH, new BigDecimal("10.00")))
+        );
+    }
+
+    @Test
+    void testMetersReportTheProgressAndTheDues() {
+        duesGenerationService.generate(MONTH);
+
+        assertThat(meterRegistry.get(DuesGenerationMeters.PROGRESS_METER_NAME).gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(DuesGenerationMeters.DUES_METER_NAME).tag("result", "created").counter().count()).isEqualTo(5.0);
+        assertThat(meterRegistry.get(DuesGenerationMeters.DUES_METER_NAME).tag("result", "existing").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(DuesGenerationMeters.PARTITIONS_METER_NAME).tag("outcome", "success").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(DuesGenerationMeters.PARTITIONS_METER_NAME).tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testNoLoaderIsAnError() {
+        DuesGenerationService withoutLoader = new DuesGenerationService(
+            noBeanProvider(DuesInputLoader.class),
+            unitDueJdbcRepository,
+            unitBalanceService,
+            projectDiscountIndex,
+            mock(PlatformTransactionManager.class),
+            new DuesGenerationMeters(meterRegistry),
+            new ApplicationProperties()
+        );
+
+        assertThatThrownBy(() -> withoutLoader.generate(MONTH)).isInstanceOf(IllegalStateException.class);
+    }
+}
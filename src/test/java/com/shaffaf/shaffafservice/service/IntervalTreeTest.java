@@ -0,0 +1,72 @@
+package com.shaffaf.shaffafservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link IntervalTree}.
+ */
+class IntervalTreeTest {
+
+    private static final Instant EPOCH = Instant.parse("2026-01-01T00:00:00Z");
+
+    private record Window(String name, Instant start, Instant end) {}
+
+    private static Window window(String name, long startDays, Long endDays) {
+        return new Window(name, EPOCH.plusSeconds(startDays * 86400), endDays == null ? null : EPOCH.plusSeconds(endDays * 86400));
+    }
+
+    private static Instant day(long days) {
+        return EPOCH.plusSeconds(days * 86400);
+    }
+
+    @Test
+    void testBoundsAreIncludedAndOpenEndedWindowsNeverEnd() {
+        IntervalTree<Window> tree = new IntervalTree<>(
+            List.of(window("ramadan", 60, 90L), window("early", 0, 10L), window("loyalty", 30, null)),
+            Window::start,
+            Window::end
+        );
+
+        assertThat(tree.findActive(day(10))).extracting(Window::name).containsExactly("early");
+        assertThat(tree.findActive(day(11))).isEmpty();
+        assertThat(tree.findActive(day(60))).extracting(Window::name).containsExactly("loyalty", "ramadan");
+        assertThat(tree.findActive(day(1000))).extracting(Window::name).containsExactly("loyalty");
+        assertThat(tree.findOverlapping(day(5), day(30))).extracting(Window::name).containsExactly("early", "loyalty");
+    }
+
+    @Test
+    void testEmptyTree() {
+        IntervalTree<Window> tree = new IntervalTree<>(List.of(), Window::start, Window::end);
+
+        assertThat(tree.size()).isZero();
+        assertThat(tree.findActive(EPOCH)).isEmpty();
+    }
+
+    @Test
+    void testSameResultsAsALinearScan() {
+        Random random = new Random(42);
+        List<Window> windows = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(3650);
+            windows.add(window("discount-" + i, start, random.nextInt(10) == 0 ? null : start + (long) random.nextInt(120)));
+        }
+        IntervalTree<Window> tree = new IntervalTree<>(windows, Window::start, Window::end);
+
+        for (int i = 0; i < 200; i++) {
+            Instant from = day(random.nextInt(3800) - 50);
+            Instant to = from.plusSeconds(random.nextInt(60) * 86400L);
+            List<Window> expected = windows
+                .stream()
+                .filter(w -> !w.start().isAfter(to) && (w.end() == null || !w.end().isBefore(from)))
+                .toList();
+
+            assertThat(tree.findOverlapping(from, to)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
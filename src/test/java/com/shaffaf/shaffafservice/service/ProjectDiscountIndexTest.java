@@ -0,0 +1,114 @@
+package com.shaffaf.shaffafservice.service;
+
+import static com.shaffaf.shaffafservice.config.HazelcastTestUtils.newStandaloneInstance;
+import static com.shaffaf.shaffafservice.service.BeanProviderTestUtils.beanProvider;
+import static com.shaffaf.shaffafservice.service.BeanProviderTestUtils.noBeanProvider;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.hazelcast.core.HazelcastInstance;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link ProjectDiscountIndex}.
+ */
+class ProjectDiscountIndexTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    private static final ProjectDiscountWindow EARLY_PAYMENT = new ProjectDiscountWindow(
+        1L,
+        Instant.parse("2026-01-01T00:00:00Z"),
+        Instant.parse("2026-03-31T23:59:59Z"),
+        BigDecimal.TEN,
+        null
+    );
+
+    private static HazelcastInstance hazelcastInstance;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ProjectDiscountIndex projectDiscountIndex;
+
+    @BeforeAll
+    static void startHazelcast() {
+        hazelcastInstance = newStandaloneInstance("project-discount-index-test");
+    }
+
+    @AfterAll
+    static void stopHazelcast() {
+        hazelcastInstance.shutdown();
+    }
+
+    @BeforeEach
+    void setup() {
+        ProjectDiscountLoader loader = projectId -> {
+            loads.incrementAndGet();
+            return List.of(EARLY_PAYMENT);
+        };
+        projectDiscountIndex = new ProjectDiscountIndex(
+            beanProvider(ProjectDiscountLoader.class, loader),
+            hazelcastInstance
+        );
+    }
+
+    @AfterEach
+    void teardown() {
+        projectDiscountIndex.destroy();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testDiscountsAreLoadedOncePerProject() {
+        assertThat(projectDiscountIndex.findActive(PROJECT_ID, Instant.parse("2026-02-01T00:00:00Z"))).containsExactly(EARLY_PAYMENT);
+        assertThat(
+            projectDiscountIndex.findOverlapping(PROJECT_ID, Instant.parse("2026-04-01T00:00:00Z"), Instant.parse("2026-04-30T00:00:00Z"))
+        ).isEmpty();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testDiscountsAreReloadedOnceTheWriteIsCommitted() {
+        Instant february = Instant.parse("2026-02-01T00:00:00Z");
+        projectDiscountIndex.findActive(PROJECT_ID, february);
+        TransactionSynchronizationManager.initSynchronization();
+
+        projectDiscountIndex.invalidate(PROJECT_ID);
+
+        projectDiscountIndex.findActive(PROJECT_ID, february);
+        assertThat(loads).hasValue(1);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        await()
+            .atMost(Duration.ofSeconds(10))
+            .untilAsserted(() -> {
+                projectDiscountIndex.findActive(PROJECT_ID, february);
+                assertThat(loads).hasValue(2);
+            });
+    }
+
+    @Test
+    void testNoLoaderIsAnError() {
+        ProjectDiscountIndex withoutLoader = new ProjectDiscountIndex(
+            noBeanProvider(ProjectDiscountLoader.class),
+            hazelcastInstance
+        );
+
+        assertThatThrownBy(() -> withoutLoader.findActive(PROJECT_ID, Instant.now())).isInstanceOf(IllegalStateException.class);
+        withoutLoader.destroy();
+    }
+}
@@ -0,0 +1,99 @@
+package com.shaffaf.shaffafservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Test class for the {@link StreamingExporter}.
+ */
+class StreamingExporterTest {
+
+    private static final Instant CREATED_DATE = Instant.parse("2025-01-31T09:00:00Z");
+
+    private final EntityManager entityManager = mock(EntityManager.class);
+
+    private final StreamingExporter streamingExporter = new StreamingExporter(
+        entityManager,
+        mock(PlatformTransactionManager.class),
+        new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+    );
+
+    private final Expense rent = new Expense(1L, "Rent, January", new BigDecimal("1500.00"), CREATED_DATE);
+
+    private final Expense repairs = new Expense(2L, "=HYPERLINK(\"http://example.com\")", new BigDecimal("-20"), CREATED_DATE);
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @Test
+    void testExportsCsv() throws Exception {
+        String csv = export(ExportFormat.CSV);
+
+        assertThat(csv).isEqualTo(
+            "id,description,amount,createdDate\r\n" +
+            "1,\"Rent, January\",1500.00,2025-01-31T09:00:00Z\r\n" +
+            "2,\"'=HYPERLINK(\"\"http://example.com\"\")\",-20,2025-01-31T09:00:00Z\r\n"
+        );
+    }
+
+    @Test
+    void testExportsNdjson() throws Exception {
+        String ndjson = export(ExportFormat.NDJSON);
+
+        assertThat(ndjson).isEqualTo(
+            "{\"id\":1,\"description\":\"Rent, January\",\"amount\":1500.00,\"createdDate\":\"2025-01-31T09:00:00Z\"}\n" +
+            "{\"id\":2,\"description\":\"=HYPERLINK(\\\"http://example.com\\\")\",\"amount\":-20,\"createdDate\":\"2025-01-31T09:00:00Z\"}\n"
+        );
+    }
+
+    @Test
+    void testDetachesTheEntitiesAndClosesTheStream() throws Exception {
+        export(ExportFormat.CSV);
+
+        verify(entityManager).detach(rent);
+        verify(entityManager).detach(repairs);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void testCsvCell() {
+        assertThat(StreamingExporter.csvCell(null)).isEmpty();
+        assertThat(StreamingExporter.csvCell(-5)).isEqualTo("-5");
+        assertThat(StreamingExporter.csvCell("-5")).isEqualTo("'-5");
+        assertThat(StreamingExporter.csvCell("line\nbreak")).isEqualTo("\"line\nbreak\"");
+    }
+
+    private String export(ExportFormat format) throws Exception {
+        Map<String, Function<Expense, Object>> columns = new LinkedHashMap<>();
+        columns.put("id", Expense::id);
+        columns.put("description", Expense::description);
+        columns.put("amount", Expense::amount);
+        columns.put("createdDate", Expense::createdDate);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        streamingExporter
+            .export(format, columns, () -> List.of(rent, repairs).stream().onClose(() -> closed.set(true)))
+            .writeTo(outputStream);
+
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private record Expense(Long id, String description, BigDecimal amount, Instant createdDate) {}
+}
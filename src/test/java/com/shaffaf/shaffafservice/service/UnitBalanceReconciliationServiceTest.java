@@ -0,0 +1,81 @@
+package com.shaffaf.shaffafservice.service;
+
+import static com.shaffaf.shaffafservice.service.BeanProviderTestUtils.beanProvider;
+import static com.shaffaf.shaffafservice.service.BeanProviderTestUtils.noBeanProvider;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.shaffaf.shaffafservice.domain.UnitBalance;
+import com.shaffaf.shaffafservice.repository.UnitBalanceRepository;
+import com.shaffaf.shaffafservice.repository.UnitDueJdbcRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Test class for the {@link UnitBalanceReconciliationService}.
+ */
+class UnitBalanceReconciliationServiceTest {
+
+    private final UnitDueJdbcRepository unitDueJdbcRepository = mock(UnitDueJdbcRepository.class);
+
+    private final UnitBalanceRepository unitBalanceRepository = mock(UnitBalanceRepository.class);
+
+    private final UnitBalanceService unitBalanceService = mock(UnitBalanceService.class);
+
+    @BeforeEach
+    void setup() {
+        when(unitBalanceRepository.findAll()).thenReturn(
+            List.of(
+                new UnitBalance(1L, new BigDecimal("100.00"), new BigDecimal("50.00")),
+                new UnitBalance(2L, new BigDecimal("100.00"), new BigDecimal("100.00"))
+            )
+        );
+        when(unitDueJdbcRepository.sumAmountsByUnit()).thenReturn(
+            Map.of(1L, new BigDecimal("100"), 2L, new BigDecimal("200.00"), 3L, new BigDecimal("10.00"))
+        );
+    }
+
+    @Test
+    void testDriftedDuesAreRebuiltFromTheDues() {
+        List<UnitBalanceDrift> drifts = reconciliationService(noBeanProvider(UnitCollectionTotals.class)).reconcile();
+
+        List<UnitBalance> rebuilt = List.of(
+            new UnitBalance(2L, new BigDecimal("200.00"), new BigDecimal("100.00")),
+            new UnitBalance(3L, new BigDecimal("10.00"), BigDecimal.ZERO)
+        );
+        assertThat(drifts).extracting(UnitBalanceDrift::rebuilt).isEqualTo(rebuilt);
+        verify(unitBalanceService).saveAll(rebuilt);
+    }
+
+    @Test
+    void testDriftedCollectionsAreRebuiltFromTheCollectionTotals() {
+        UnitCollectionTotals collectionTotals = () -> Map.of(1L, new BigDecimal("50"), 2L, new BigDecimal("90.00"));
+
+        List<UnitBalanceDrift> drifts = reconciliationService(beanProvider(UnitCollectionTotals.class, collectionTotals)).reconcile();
+
+        assertThat(drifts)
+            .extracting(UnitBalanceDrift::rebuilt)
+            .containsExactly(
+                new UnitBalance(2L, new BigDecimal("200.00"), new BigDecimal("90.00")),
+                new UnitBalance(3L, new BigDecimal("10.00"), BigDecimal.ZERO)
+            );
+        assertThat(drifts.get(0).recorded()).isEqualTo(new UnitBalance(2L, new BigDecimal("100.00"), new BigDecimal("100.00")));
+    }
+
+    private UnitBalanceReconciliationService reconciliationService(ObjectProvider<UnitCollectionTotals> collectionTotals) {
+        return new UnitBalanceReconciliationService(
+            unitDueJdbcRepository,
+            unitBalanceRepository,
+            unitBalanceService,
+            collectionTotals,
+            mock(PlatformTransactionManager.class)
+        );
+    }
+}
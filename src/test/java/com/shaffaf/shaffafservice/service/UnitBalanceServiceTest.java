@@ -0,0 +1,126 @@
+package com.shaffaf.shaffafservice.service;
+
+import static com.shaffaf.shaffafservice.config.HazelcastTestUtils.newStandaloneInstance;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.shaffaf.shaffafservice.config.ApplicationProperties;
+import com.shaffaf.shaffafservice.domain.UnitBalance;
+import com.shaffaf.shaffafservice.domain.UnitDue;
+import com.shaffaf.shaffafservice.domain.VersionedUnitBalance;
+import com.shaffaf.shaffafservice.repository.UnitBalanceRepository;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Test class for the {@link UnitBalanceService}.
+ */
+class UnitBalanceServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 10);
+
+    private static final Instant READ_DATE = Instant.parse("2026-10-18T10:00:00Z");
+
+    private static HazelcastInstance hazelcastInstance;
+
+    private final UnitBalanceRepository unitBalanceRepository = mock(UnitBalanceRepository.class);
+
+    private UnitBalanceService unitBalanceService;
+
+    @BeforeAll
+    static void startHazelcast() {
+        hazelcastInstance = newStandaloneInstance("unit-balance-test");
+    }
+
+    @AfterAll
+    static void stopHazelcast() {
+        hazelcastInstance.shutdown();
+    }
+
+    @BeforeEach
+    void setup() {
+        hazelcastInstance.getMap(UnitBalanceService.MAP_NAME).clear();
+        unitBalanceService = new UnitBalanceService(unitBalanceRepository, hazelcastInstance, new ApplicationProperties());
+        when(unitBalanceRepository.findVersionedById(1L)).thenReturn(
+            Optional.of(new VersionedUnitBalance(new UnitBalance(1L, new BigDecimal("300.00"), BigDecimal.TEN), READ_DATE))
+        );
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testBalanceIsReadOnceFromTheLedger() {
+        assertThat(unitBalanceService.getBalance(1L).balance()).isEqualByComparingTo("290");
+        assertThat(unitBalanceService.getBalance(1L).balance()).isEqualByComparingTo("290");
+        assertThat(unitBalanceService.getBalance(2L)).isEqualTo(UnitBalance.empty(2L));
+
+        verify(unitBalanceRepository, times(1)).findVersionedById(1L);
+    }
+
+    @Test
+    void testDuesAreAddedByUnitInUnitOrder() {
+        unitBalanceService.recordDues(
+            List.of(
+                new UnitDue(2L, MONTH, BigDecimal.TEN),
+                new UnitDue(1L, MONTH, BigDecimal.ONE),
+                new UnitDue(2L, MONTH.plusMonths(1), BigDecimal.TEN)
+            )
+        );
+
+        verify(unitBalanceRepository).addAll(
+            List.of(new UnitBalance(1L, BigDecimal.ONE, BigDecimal.ZERO), new UnitBalance(2L, new BigDecimal("20"), BigDecimal.ZERO))
+        );
+    }
+
+    @Test
+    void testCachedBalanceIsReplacedOnceCommitted() {
+        unitBalanceService.getBalance(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        when(unitBalanceRepository.addAll(anyList())).thenReturn(List.of(written(new BigDecimal("300.00"))));
+
+        unitBalanceService.recordCollection(1L, new BigDecimal("290"));
+
+        assertThat(unitBalanceService.getBalance(1L).balance()).isEqualByComparingTo("290");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(unitBalanceService.getBalance(1L).balance()).isZero();
+    }
+
+    @Test
+    void testBalanceReadBeforeTheCommitDoesNotReplaceTheOneWritten() {
+        when(unitBalanceRepository.saveAll(anyList())).thenReturn(List.of(written(new BigDecimal("300.00"))));
+        // The reader misses the cache and reads the row, then the writer commits before the reader caches what it read
+        when(unitBalanceRepository.findVersionedById(1L)).thenAnswer(invocation -> {
+            unitBalanceService.saveAll(List.of(new UnitBalance(1L, new BigDecimal("300.00"), new BigDecimal("300.00"))));
+            return Optional.of(new VersionedUnitBalance(new UnitBalance(1L, new BigDecimal("300.00"), BigDecimal.TEN), READ_DATE));
+        });
+
+        assertThat(unitBalanceService.getBalance(1L).balance()).isEqualByComparingTo("290");
+
+        assertThat(unitBalanceService.getBalance(1L).balance()).isZero();
+        verify(unitBalanceRepository, times(1)).findVersionedById(1L);
+    }
+
+    private static VersionedUnitBalance written(BigDecimal collectedAmount) {
+        return new VersionedUnitBalance(new UnitBalance(1L, new BigDecimal("300.00"), collectedAmount), READ_DATE.plusMillis(1));
+    }
+}
@@ -1,7 +1,10 @@
 package com.shaffaf.shaffafservice.web.filter;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.forwardedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.shaffaf.shaffafservice.IntegrationTest;
@@ -9,8 +12,11 @@ import com.shaffaf.shaffafservice.security.AuthoritiesConstants;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
 
 @AutoConfigureMockMvc
 @WithMockUser
@@ -20,9 +26,30 @@ class SpaWebFilterIT {
     @Autowired
     private MockMvc mockMvc;
 
+    /**
+     * The {@code index.html} served from memory is the one of the test resources, whether or not the client
+     * application was built. Without it, the client routes are forwarded as tested by the {@link SpaWebFilterTest}.
+     */
+    private static ResultMatcher[] servedIndex() {
+        return new ResultMatcher[] {
+            status().isOk(),
+            forwardedUrl(null),
+            content().contentTypeCompatibleWith(MediaType.TEXT_HTML),
+            content().string(containsString("<title>SpaWebFilterIT</title>")),
+            header().exists(HttpHeaders.ETAG),
+        };
+    }
+
     @Test
-    void testFilterForwardsToIndex() throws Exception {
-        mockMvc.perform(get("/")).andExpect(status().isOk()).andExpect(forwardedUrl("/index.html"));
+    void testFilterServesIndex() throws Exception {
+        mockMvc.perform(get("/")).andExpectAll(servedIndex());
+    }
+
+    @Test
+    void testFilterServesNotModifiedIndex() throws Exception {
+        String eTag = mockMvc.perform(get("/")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/first-level").header(HttpHeaders.IF_NONE_MATCH, eTag)).andExpect(status().isNotModified());
     }
 
     @Test
@@ -38,27 +65,27 @@ class SpaWebFilterIT {
 
     @Test
     void getBackendEndpoint() throws Exception {
-        mockMvc.perform(get("/test")).andExpect(status().isOk()).andExpect(forwardedUrl("/index.html"));
+        mockMvc.perform(get("/test")).andExpectAll(servedIndex());
     }
 
     @Test
-    void forwardUnmappedFirstLevelMapping() throws Exception {
-        mockMvc.perform(get("/first-level")).andExpect(status().isOk()).andExpect(forwardedUrl("/index.html"));
+    void serveUnmappedFirstLevelMapping() throws Exception {
+        mockMvc.perform(get("/first-level")).andExpectAll(servedIndex());
     }
 
     @Test
-    void forwardUnmappedSecondLevelMapping() throws Exception {
-        mockMvc.perform(get("/first-level/second-level")).andExpect(status().isOk()).andExpect(forwardedUrl("/index.html"));
+    void serveUnmappedSecondLevelMapping() throws Exception {
+        mockMvc.perform(get("/first-level/second-level")).andExpectAll(servedIndex());
     }
 
     @Test
-    void forwardUnmappedThirdLevelMapping() throws Exception {
-        mockMvc.perform(get("/first-level/second-level/third-level")).andExpect(status().isOk()).andExpect(forwardedUrl("/index.html"));
+    void serveUnmappedThirdLevelMapping() throws Exception {
+        mockMvc.perform(get("/first-level/second-level/third-level")).andExpectAll(servedIndex());
     }
 
     @Test
-    void forwardUnmappedDeepMapping() throws Exception {
-        mockMvc.perform(get("/1/2/3/4/5/6/7/8/9/10")).andExpect(forwardedUrl("/index.html"));
+    void serveUnmappedDeepMapping() throws Exception {
+        mockMvc.perform(get("/1/2/3/4/5/6/7/8/9/10")).andExpectAll(servedIndex());
     }
 
     @Test
@@ -0,0 +1,146 @@
+package com.shaffaf.shaffafservice.web.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.FilterChain;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Test class for the {@link SpaWebFilter} and its {@link SpaRouteMatcher}.
+ */
+class SpaWebFilterTest {
+
+    private static final String INDEX = "<!doctype html><html></html>";
+
+    @Test
+    void testRouteMatcherDecidesLikeTheFormerFilter() {
+        SpaRouteMatcher routeMatcher = new SpaRouteMatcher(SpaWebFilter.DEFAULT_EXCLUDED_PREFIXES);
+
+        for (String path : List.of(
+            "",
+            "/",
+            "/api",
+            "/api/units",
+            "/apiary",
+            "/ap",
+            "/management/health",
+            "/managed",
+            "/v3/api-docs",
+            "/v3/api",
+            "/main.js",
+            "/projects/1/units",
+            "/projects/1/units.json",
+            "/line\nbreak",
+            "/line separator",
+            "no-leading-slash"
+        )) {
+            boolean formerDecision =
+                !path.startsWith("/api") &&
+                !path.startsWith("/management") &&
+                !path.startsWith("/v3/api-docs") &&
+                !path.contains(".") &&
+                path.matches("/(.*)");
+            assertThat(routeMatcher.isSpaRoute(path)).as(path).isEqualTo(formerDecision);
+        }
+    }
+
+    @Test
+    void testRouteMatcherWithoutExcludedPrefixes() {
+        SpaRouteMatcher routeMatcher = new SpaRouteMatcher(List.of());
+
+        assertThat(routeMatcher.isSpaRoute("/api/units")).isTrue();
+        assertThat(routeMatcher.isSpaRoute("/main.js")).isFalse();
+    }
+
+    @Test
+    void testServesIndexFromMemory() throws Exception {
+        SpaWebFilter filter = new SpaWebFilter(SpaWebFilter.DEFAULT_EXCLUDED_PREFIXES, indexResource());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/projects/1"), response, failingFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getForwardedUrl()).isNull();
+        assertThat(response.getContentType()).isEqualTo("text/html;charset=UTF-8");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(INDEX);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @Test
+    void testServesNotModifiedIndex() throws Exception {
+        SpaWebFilter filter = new SpaWebFilter(SpaWebFilter.DEFAULT_EXCLUDED_PREFIXES, indexResource());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), response, failingFilterChain());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse notModifiedResponse = new MockHttpServletResponse();
+
+        filter.doFilter(request, notModifiedResponse, failingFilterChain());
+
+        assertThat(notModifiedResponse.getStatus()).isEqualTo(304);
+        assertThat(notModifiedResponse.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void testServesHeadIndexWithoutBody() throws Exception {
+        SpaWebFilter filter = new SpaWebFilter(SpaWebFilter.DEFAULT_EXCLUDED_PREFIXES, indexResource());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("HEAD", "/projects/1"), response, failingFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLength()).isEqualTo(INDEX.length());
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void testForwardsWhenIndexIsMissing() throws Exception {
+        SpaWebFilter filter = new SpaWebFilter(SpaWebFilter.DEFAULT_EXCLUDED_PREFIXES, new ClassPathResource("missing/index.html"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/projects/1"), response, failingFilterChain());
+
+        assertThat(response.getForwardedUrl()).isEqualTo("/index.html");
+    }
+
+    @Test
+    void testForwardsOtherMethods() throws Exception {
+        SpaWebFilter filter = new SpaWebFilter(SpaWebFilter.DEFAULT_EXCLUDED_PREFIXES, indexResource());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/projects/1"), response, failingFilterChain());
+
+        assertThat(response.getForwardedUrl()).isEqualTo("/index.html");
+    }
+
+    @Test
+    void testDoesNotServeIndexForExcludedPrefixes() throws Exception {
+        SpaWebFilter filter = new SpaWebFilter(List.of("/api", "/custom"), indexResource());
+        AtomicBoolean filterChainCalled = new AtomicBoolean();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/custom/route"), response, (req, res) -> filterChainCalled.set(true));
+
+        assertThat(filterChainCalled).isTrue();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private static ByteArrayResource indexResource() {
+        return new ByteArrayResource(INDEX.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static FilterChain failingFilterChain() {
+        return (request, response) -> {
+            throw new AssertionError("The filter chain should not be called");
+        };
+    }
+}
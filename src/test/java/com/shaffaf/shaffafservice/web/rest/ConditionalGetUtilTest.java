@@ -0,0 +1,54 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.shaffaf.shaffafservice.service.CachedJson;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Test class for the {@link ConditionalGetUtil} utility class.
+ */
+class ConditionalGetUtilTest {
+
+    private static final CachedJson NOTICES = new CachedJson("[{\"title\":\"Water cut\"}]".getBytes(StandardCharsets.UTF_8), "\"1234\"");
+
+    @RestController
+    static class NoticeController {
+
+        @GetMapping("/api/notices")
+        ResponseEntity<byte[]> getNotices() {
+            return ConditionalGetUtil.cachedJsonResponse(NOTICES);
+        }
+    }
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new NoticeController()).build();
+
+    @Test
+    void testBodyIsServedWithItsEntityTag() throws Exception {
+        mockMvc
+            .perform(get("/api/notices"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1234\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+            .andExpect(content().json("[{\"title\":\"Water cut\"}]"));
+    }
+
+    @Test
+    void testSameEntityTagIsNotModified() throws Exception {
+        mockMvc
+            .perform(get("/api/notices").header(HttpHeaders.IF_NONE_MATCH, "\"1234\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/api/notices").header(HttpHeaders.IF_NONE_MATCH, "\"5678\"")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,41 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.shaffaf.shaffafservice.repository.CountMode;
+import com.shaffaf.shaffafservice.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Test class for the {@link CountModeUtil} utility class.
+ */
+class CountModeUtilTest {
+
+    @Test
+    void testResolveCountMode() {
+        assertThat(CountModeUtil.resolveCountMode(null, CountMode.CACHED)).isEqualTo(CountMode.CACHED);
+        assertThat(CountModeUtil.resolveCountMode(" ", CountMode.CACHED)).isEqualTo(CountMode.CACHED);
+        assertThat(CountModeUtil.resolveCountMode("estimated", CountMode.CACHED)).isEqualTo(CountMode.ESTIMATED);
+        assertThatThrownBy(() -> CountModeUtil.resolveCountMode("approximate", CountMode.CACHED)).isInstanceOf(
+            BadRequestAlertException.class
+        );
+    }
+
+    @Test
+    void testPaginationHeadersTellTheCountMode() {
+        HttpHeaders headers = CountModeUtil.generatePaginationHttpHeaders(
+            UriComponentsBuilder.fromUriString("/api/complains"),
+            new PageImpl<>(List.of("a"), PageRequest.of(0, 1), 1_000_000),
+            CountMode.ESTIMATED
+        );
+
+        assertThat(headers.getFirst("X-Total-Count")).isEqualTo("1000000");
+        assertThat(headers.getFirst(CountModeUtil.COUNT_MODE_HEADER)).isEqualTo("estimated");
+    }
+}
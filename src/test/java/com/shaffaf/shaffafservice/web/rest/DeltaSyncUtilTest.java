@@ -0,0 +1,91 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.shaffaf.shaffafservice.domain.AbstractAuditingEntity;
+import com.shaffaf.shaffafservice.service.dto.DeltaSyncDTO;
+import com.shaffaf.shaffafservice.web.rest.errors.BadRequestAlertException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+/**
+ * Test class for the {@link DeltaSyncUtil} utility class.
+ */
+class DeltaSyncUtilTest {
+
+    private static class Unit extends AbstractAuditingEntity<Long> {
+
+        private final Long id;
+
+        private final Instant deletedDate;
+
+        Unit(Long id, Instant lastModifiedDate, Instant deletedDate) {
+            this.id = id;
+            this.deletedDate = deletedDate;
+            setLastModifiedDate(lastModifiedDate);
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+    }
+
+    private static final Instant MODIFIED = Instant.parse("2026-10-18T08:30:00Z");
+
+    private static Window<Unit> window(List<Unit> units, boolean hasNext) {
+        return Window.from(
+            units,
+            index -> {
+                Map<String, Object> keys = new LinkedHashMap<>();
+                keys.put("lastModifiedDate", units.get(index).getLastModifiedDate());
+                keys.put("id", units.get(index).getId());
+                return ScrollPosition.forward(keys);
+            },
+            hasNext
+        );
+    }
+
+    @Test
+    void testChangesAreSplitFromDeletions() {
+        Window<Unit> window = window(List.of(new Unit(1L, MODIFIED, null), new Unit(2L, MODIFIED, MODIFIED)), true);
+
+        DeltaSyncDTO<Long> sync = DeltaSyncUtil.toDeltaSync(window, null, unit -> unit.deletedDate != null, Unit::getId);
+
+        assertThat(sync.changed()).containsExactly(1L);
+        assertThat(sync.deleted()).containsExactly(2L);
+        assertThat(sync.hasMore()).isTrue();
+    }
+
+    @Test
+    void testWatermarkIsTheLastChange() {
+        Window<Unit> window = window(List.of(new Unit(5L, MODIFIED.minusSeconds(60), null), new Unit(3L, MODIFIED, null)), false);
+
+        String watermark = DeltaSyncUtil.toDeltaSync(window, null, unit -> false, Unit::getId).watermark();
+
+        KeysetScrollPosition position = DeltaSyncUtil.parseWatermark(watermark);
+        assertThat(position.getKeys()).containsExactly(Map.entry("lastModifiedDate", MODIFIED), Map.entry("id", 3L));
+    }
+
+    @Test
+    void testNoChangesKeepTheWatermark() {
+        DeltaSyncDTO<Long> sync = DeltaSyncUtil.toDeltaSync(window(List.of(), false), "c2luY2U", unit -> false, Unit::getId);
+
+        assertThat(sync.watermark()).isEqualTo("c2luY2U");
+        assertThat(sync.changed()).isEmpty();
+        assertThat(sync.hasMore()).isFalse();
+    }
+
+    @Test
+    void testInvalidWatermarkIsABadRequest() {
+        assertThat(DeltaSyncUtil.parseWatermark(null).isInitial()).isTrue();
+        assertThatThrownBy(() -> DeltaSyncUtil.parseWatermark("not a watermark")).isInstanceOf(BadRequestAlertException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.shaffaf.shaffafservice.web.rest.errors.BadRequestAlertException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Test class for the {@link KeysetPaginationUtil} utility class.
+ */
+class KeysetPaginationUtilTest {
+
+    private static final Instant CREATED_DATE = Instant.parse("2025-03-01T10:15:30.123456Z");
+
+    @Test
+    void testCursorRoundTrip() {
+        KeysetScrollPosition position = KeysetPaginationUtil.parseCursor(KeysetPaginationUtil.toCursor(position(CREATED_DATE, 42L)));
+
+        assertThat(position.scrollsForward()).isTrue();
+        assertThat(position.getKeys()).containsExactly(Map.entry("createdDate", CREATED_DATE), Map.entry("id", 42L));
+    }
+
+    @Test
+    void testMissingCursorIsTheFirstPage() {
+        assertThat(KeysetPaginationUtil.parseCursor(null).isInitial()).isTrue();
+        assertThat(KeysetPaginationUtil.parseCursor("").isInitial()).isTrue();
+    }
+
+    @Test
+    void testInvalidCursorIsABadRequest() {
+        assertThatThrownBy(() -> KeysetPaginationUtil.parseCursor("not a cursor")).isInstanceOf(BadRequestAlertException.class);
+        assertThatThrownBy(() -> KeysetPaginationUtil.parseCursor("bm90LWEtZGF0ZSwx")).isInstanceOf(BadRequestAlertException.class);
+    }
+
+    @Test
+    void testPositionWithoutKeyHasNoCursor() {
+        assertThatThrownBy(() -> KeysetPaginationUtil.toCursor(position(null, 42L)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("createdDate");
+        assertThatThrownBy(() -> KeysetPaginationUtil.toCursor(position(CREATED_DATE, null)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("id");
+    }
+
+    @Test
+    void testHeadersOfAPageWithANextPage() {
+        Window<String> window = Window.from(List.of("first", "second"), index -> position(CREATED_DATE.plusSeconds(index), index + 1L), true);
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            UriComponentsBuilder.fromUriString("/api/expenses?size=2&cursor=previous"),
+            window
+        );
+
+        String cursor = KeysetPaginationUtil.toCursor(position(CREATED_DATE.plusSeconds(1), 2L));
+        assertThat(headers.getFirst(KeysetPaginationUtil.NEXT_CURSOR_HEADER)).isEqualTo(cursor);
+        assertThat(headers.getFirst(HttpHeaders.LINK)).isEqualTo("</api/expenses?size=2&cursor=" + cursor + ">; rel=\"next\"");
+        assertThat(headers.containsKey("X-Total-Count")).isFalse();
+    }
+
+    @Test
+    void testHeadersOfTheLastPage() {
+        Window<String> window = Window.from(List.of("last"), index -> position(CREATED_DATE, 1L), false);
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            UriComponentsBuilder.fromUriString("/api/expenses"),
+            window
+        );
+
+        assertThat(headers).isEmpty();
+    }
+
+    private static KeysetScrollPosition position(Instant createdDate, Long id) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdDate", createdDate);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+}
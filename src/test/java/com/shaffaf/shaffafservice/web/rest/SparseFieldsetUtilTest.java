@@ -0,0 +1,34 @@
+package com.shaffaf.shaffafservice.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.shaffaf.shaffafservice.web.rest.errors.BadRequestAlertException;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link SparseFieldsetUtil} utility class.
+ */
+class SparseFieldsetUtilTest {
+
+    private static final Set<String> SELECTABLE_FIELDS = Set.of("id", "name", "floor", "createdBy", "createdDate");
+
+    @Test
+    void testNoFieldsIsTheFullRepresentation() {
+        assertThat(SparseFieldsetUtil.parseFields(null, SELECTABLE_FIELDS)).isEmpty();
+        assertThat(SparseFieldsetUtil.parseFields(" ", SELECTABLE_FIELDS)).isEmpty();
+    }
+
+    @Test
+    void testIdIsAlwaysReturnedFirst() {
+        assertThat(SparseFieldsetUtil.parseFields("floor, name,,id", SELECTABLE_FIELDS)).containsExactly("id", "floor", "name");
+    }
+
+    @Test
+    void testUnknownFieldIsABadRequest() {
+        assertThatThrownBy(() -> SparseFieldsetUtil.parseFields("name,block", SELECTABLE_FIELDS)).isInstanceOf(
+            BadRequestAlertException.class
+        );
+    }
+}